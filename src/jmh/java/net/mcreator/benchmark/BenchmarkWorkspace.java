@@ -0,0 +1,121 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.generator.Generator;
+import net.mcreator.generator.GeneratorConfiguration;
+import net.mcreator.generator.GeneratorFlavor;
+import net.mcreator.integration.IntegrationTestSetup;
+import net.mcreator.integration.TestWorkspaceSynthesizer;
+import net.mcreator.io.FileIO;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.elements.ModElement;
+import net.mcreator.workspace.settings.WorkspaceSettings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Workspace shared by the benchmarks of a trial. It is filled by {@link TestWorkspaceSynthesizer} with a fixed seed, so
+ * all runs with the same parameters benchmark the same workspace contents.
+ * <p>
+ * Gradle setup task of the generator is not run, so the workspace can be created offline. Benchmarks that need the
+ * classpath of the workspace need to provide it themselves.
+ */
+@State(Scope.Benchmark) public class BenchmarkWorkspace {
+
+	private static final Logger LOG = LogManager.getLogger("Benchmark Workspace");
+
+	private static final long SEED = 1337;
+
+	private static boolean mcreatorInitialized = false;
+
+	@Param({ "1" }) public int elementsPerType;
+
+	private Workspace workspace;
+
+	private List<GeneratableElement> generatableElements;
+
+	@Setup(Level.Trial) public void setup() throws Exception {
+		initMCreator();
+
+		GeneratorConfiguration generatorConfiguration = GeneratorConfiguration.getRecommendedGeneratorForBaseLanguage(
+				Generator.GENERATOR_CACHE.values(), GeneratorFlavor.BaseLanguage.JAVA);
+		if (generatorConfiguration == null)
+			throw new IllegalStateException("Failed to load any Java generator for benchmarks");
+
+		File workspaceFolder = Files.createTempDirectory("mcreator_benchmark_workspace").toFile();
+
+		WorkspaceSettings workspaceSettings = new WorkspaceSettings("benchmark_mod");
+		workspaceSettings.setModName("Benchmark mod");
+		workspaceSettings.setCurrentGenerator(generatorConfiguration.getGeneratorName());
+		workspace = Workspace.createWorkspace(new File(workspaceFolder, "benchmark_mod.mcreator"), workspaceSettings);
+
+		new TestWorkspaceSynthesizer(SEED).setElementsPerType(elementsPerType)
+				.setProcedures(10 * elementsPerType, 20, 2).setTextures(10 * elementsPerType)
+				.setLocalizationEntries(100 * elementsPerType).setGenerateCode(true).synthesize(workspace);
+
+		// base files contain user code blocks and reference all generated elements
+		workspace.getGenerator().generateBase();
+
+		generatableElements = new ArrayList<>();
+		for (ModElement modElement : workspace.getModElements().stream()
+				.sorted(Comparator.comparing(ModElement::getName)).toList()) {
+			GeneratableElement generatableElement = modElement.getGeneratableElement();
+			if (generatableElement != null)
+				generatableElements.add(generatableElement);
+		}
+
+		LOG.info("Benchmark workspace " + workspace.getWorkspaceFolder() + " created with " + generatableElements.size()
+				+ " mod elements, generator: " + generatorConfiguration.getGeneratorName());
+	}
+
+	@TearDown(Level.Trial) public void tearDown() {
+		File workspaceFolder = workspace.getWorkspaceFolder();
+		workspace.close();
+		FileIO.deleteDir(workspaceFolder);
+	}
+
+	public Workspace getWorkspace() {
+		return workspace;
+	}
+
+	/**
+	 * @return Generatable elements of all mod elements of the workspace, sorted by the mod element name
+	 */
+	public List<GeneratableElement> getGeneratableElements() {
+		return generatableElements;
+	}
+
+	private static synchronized void initMCreator() throws Exception {
+		if (!mcreatorInitialized) {
+			new IntegrationTestSetup().setup();
+			mcreatorInitialized = true;
+		}
+	}
+
+}
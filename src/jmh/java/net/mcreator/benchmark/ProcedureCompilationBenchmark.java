@@ -0,0 +1,53 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.element.types.Procedure;
+import net.mcreator.generator.template.TemplateGeneratorException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles Blockly XML of all procedures of the benchmark workspace to Java code.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcedureCompilationBenchmark {
+
+	private final List<Procedure> procedures = new ArrayList<>();
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) {
+		for (GeneratableElement generatableElement : benchmarkWorkspace.getGeneratableElements()) {
+			if (generatableElement instanceof Procedure procedure)
+				procedures.add(procedure);
+		}
+	}
+
+	@Benchmark public void compileProcedures(Blackhole blackhole) throws TemplateGeneratorException {
+		for (Procedure procedure : procedures)
+			blackhole.consume(procedure.getBlocklyToProcedure(new HashMap<>()).getGeneratedCode());
+	}
+
+}
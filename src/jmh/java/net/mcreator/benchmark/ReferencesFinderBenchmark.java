@@ -0,0 +1,72 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.elements.ModElement;
+import net.mcreator.workspace.elements.VariableElement;
+import net.mcreator.workspace.references.ReferencesFinder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches usages of all mod elements, global variables and localization keys of the benchmark workspace.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReferencesFinderBenchmark {
+
+	private Workspace workspace;
+
+	private final List<ModElement> modElements = new ArrayList<>();
+	private final List<String> variables = new ArrayList<>();
+	private final List<String> localizationKeys = new ArrayList<>();
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) {
+		workspace = benchmarkWorkspace.getWorkspace();
+
+		benchmarkWorkspace.getGeneratableElements().forEach(e -> modElements.add(e.getModElement()));
+		workspace.getVariableElements().stream().map(VariableElement::getName).forEach(variables::add);
+
+		Map<String, String> englishKeys = workspace.getLanguageMap().get("en_us");
+		if (englishKeys != null)
+			localizationKeys.addAll(englishKeys.keySet().stream().sorted().toList());
+	}
+
+	@Benchmark public void searchModElementUsages(Blackhole blackhole) {
+		for (ModElement modElement : modElements)
+			blackhole.consume(ReferencesFinder.searchModElementUsages(workspace, modElement));
+	}
+
+	@Benchmark public void searchGlobalVariableUsages(Blackhole blackhole) {
+		for (String variable : variables)
+			blackhole.consume(ReferencesFinder.searchGlobalVariableUsages(workspace, variable));
+	}
+
+	@Benchmark public void searchLocalizationKeyUsages(Blackhole blackhole) {
+		for (String localizationKey : localizationKeys)
+			blackhole.consume(ReferencesFinder.searchLocalizationKeyUsages(workspace, localizationKey));
+	}
+
+}
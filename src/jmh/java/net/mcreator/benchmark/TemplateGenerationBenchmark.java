@@ -0,0 +1,87 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.generator.Generator;
+import net.mcreator.generator.GeneratorTemplate;
+import net.mcreator.generator.ListTemplate;
+import net.mcreator.generator.template.CachedAdditionalTemplateDataProvider;
+import net.mcreator.generator.template.IAdditionalTemplateDataProvider;
+import net.mcreator.generator.template.TemplateGenerator;
+import net.mcreator.generator.template.TemplateGeneratorException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the code of all templates of all mod elements of the benchmark workspace, without formatting the code
+ * and writing the files.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateGenerationBenchmark {
+
+	private TemplateGenerator templateGenerator;
+
+	private final Map<GeneratableElement, List<GeneratorTemplate>> templates = new LinkedHashMap<>();
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) {
+		Generator generator = benchmarkWorkspace.getWorkspace().getGenerator();
+
+		templateGenerator = generator.getTemplateGeneratorFromName("templates");
+
+		for (GeneratableElement generatableElement : benchmarkWorkspace.getGeneratableElements())
+			templates.put(generatableElement, generator.getModElementGeneratorTemplatesList(generatableElement));
+	}
+
+	@Benchmark public void generateElementTemplates(Blackhole blackhole) throws TemplateGeneratorException {
+		for (Map.Entry<GeneratableElement, List<GeneratorTemplate>> entry : templates.entrySet()) {
+			GeneratableElement element = entry.getKey();
+
+			IAdditionalTemplateDataProvider additionalTemplateData = CachedAdditionalTemplateDataProvider.of(
+					element.getAdditionalTemplateData());
+
+			for (GeneratorTemplate generatorTemplate : entry.getValue()) {
+				String templateFileName = (String) generatorTemplate.getTemplateDefinition().get("template");
+				String variables = (String) generatorTemplate.getTemplateDefinition().get("variables");
+
+				// data model is filled by the template generator, so each generation needs its own copy
+				Map<String, Object> dataModel = new HashMap<>(generatorTemplate.getDataModel());
+
+				if (generatorTemplate instanceof ListTemplate listTemplate) {
+					blackhole.consume(templateGenerator.generateListItemFromTemplate(
+							listTemplate.getTemplatesList().listData().get(listTemplate.getListItemIndex()),
+							listTemplate.getListItemIndex(), element, templateFileName, dataModel, variables,
+							additionalTemplateData));
+				} else {
+					blackhole.consume(
+							templateGenerator.generateElementFromTemplate(element, templateFileName, dataModel,
+									variables, additionalTemplateData));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.generator.usercode.UserCodeProcessor;
+import net.mcreator.io.FileIO;
+import org.apache.commons.io.FilenameUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Merges user code into the regenerated files of the benchmark workspace that contain user code blocks. Each user
+ * code block of the current code contains a few lines of user code.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCodeProcessorBenchmark {
+
+	private static final String USER_CODE_BLOCK_START = " Start of user code block ";
+
+	private final List<UserCodeFile> files = new ArrayList<>();
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) throws IOException {
+		Path userCodeDir = Files.createTempDirectory("mcreator_benchmark_usercode");
+
+		try (Stream<Path> entries = Files.walk(benchmarkWorkspace.getWorkspace().getWorkspaceFolder().toPath())) {
+			for (File file : entries.filter(Files::isRegularFile).map(Path::toFile).toList()) {
+				String extension = FilenameUtils.getExtension(file.getName());
+				if (!extension.equals("java") && !extension.equals("toml"))
+					continue;
+
+				String code = FileIO.readFileToString(file);
+				if (!code.contains(USER_CODE_BLOCK_START))
+					continue;
+
+				String lineCommentStart = extension.equals("java") ? "//" : "#";
+				String currentCode = addUserCode(code, lineCommentStart);
+
+				File currentCodeFile = new File(userCodeDir.toFile(), files.size() + "_" + file.getName());
+				FileIO.writeStringToFile(currentCode, currentCodeFile);
+
+				files.add(new UserCodeFile(code, currentCode, currentCodeFile, lineCommentStart));
+			}
+		}
+	}
+
+	@TearDown(Level.Trial) public void tearDown() {
+		if (!files.isEmpty())
+			FileIO.deleteDir(files.get(0).currentCodeFile().getParentFile());
+	}
+
+	@Benchmark public void processUserCode(Blackhole blackhole) {
+		for (UserCodeFile file : files) {
+			blackhole.consume(
+					UserCodeProcessor.processUserCode(file.currentCode(), file.code(), file.lineCommentStart()));
+		}
+	}
+
+	@Benchmark public void processUserCodeFromFile(Blackhole blackhole) {
+		for (UserCodeFile file : files) {
+			blackhole.consume(
+					UserCodeProcessor.processUserCode(file.currentCodeFile(), file.code(), file.lineCommentStart()));
+		}
+	}
+
+	private static String addUserCode(String code, String lineCommentStart) {
+		StringBuilder retval = new StringBuilder();
+		code.lines().forEach(line -> {
+			retval.append(line).append('\n');
+			if (line.strip().startsWith(lineCommentStart + USER_CODE_BLOCK_START)) {
+				for (int i = 0; i < 5; i++)
+					retval.append(lineCommentStart).append(" user code line ").append(i).append('\n');
+			}
+		});
+		return retval.toString();
+	}
+
+	private record UserCodeFile(String code, String currentCode, File currentCodeFile, String lineCommentStart) {}
+
+}
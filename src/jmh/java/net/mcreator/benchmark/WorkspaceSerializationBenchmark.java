@@ -0,0 +1,80 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.benchmark;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.WorkspaceFileManager;
+import net.mcreator.workspace.elements.ModElementManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes the workspace definition and definitions of all mod elements of the benchmark
+ * workspace.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkspaceSerializationBenchmark {
+
+	private Workspace workspace;
+	private ModElementManager modElementManager;
+
+	private List<GeneratableElement> generatableElements;
+
+	private String workspaceJSON;
+	private final Map<GeneratableElement, String> generatableElementsJSON = new LinkedHashMap<>();
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) {
+		workspace = benchmarkWorkspace.getWorkspace();
+		modElementManager = workspace.getModElementManager();
+		generatableElements = benchmarkWorkspace.getGeneratableElements();
+
+		workspaceJSON = WorkspaceFileManager.gson.toJson(workspace);
+		for (GeneratableElement generatableElement : generatableElements)
+			generatableElementsJSON.put(generatableElement,
+					modElementManager.generatableElementToJSON(generatableElement));
+	}
+
+	@Benchmark public String serializeWorkspace() {
+		return WorkspaceFileManager.gson.toJson(workspace);
+	}
+
+	@Benchmark public Workspace deserializeWorkspace() {
+		return WorkspaceFileManager.gson.fromJson(workspaceJSON, Workspace.class);
+	}
+
+	@Benchmark public void serializeModElements(Blackhole blackhole) {
+		for (GeneratableElement generatableElement : generatableElements)
+			blackhole.consume(modElementManager.generatableElementToJSON(generatableElement));
+	}
+
+	@Benchmark public void deserializeModElements(Blackhole blackhole) {
+		for (Map.Entry<GeneratableElement, String> entry : generatableElementsJSON.entrySet()) {
+			blackhole.consume(modElementManager.fromJSONtoGeneratableElement(entry.getValue(),
+					entry.getKey().getModElement()));
+		}
+	}
+
+}
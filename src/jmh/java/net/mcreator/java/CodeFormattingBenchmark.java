@@ -0,0 +1,110 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.benchmark.BenchmarkWorkspace;
+import net.mcreator.generator.Generator;
+import net.mcreator.io.FileIO;
+import net.mcreator.workspace.Workspace;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReader;
+import java.lang.module.ModuleReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Arranges imports and formats the Java sources generated for the benchmark workspace.
+ * <p>
+ * Gradle setup task is not run for the benchmark workspace, so the import index uses classes exported by the modules
+ * of the running JDK in place of the Minecraft classpath.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodeFormattingBenchmark {
+
+	private Workspace workspace;
+
+	private ImportFormat importFormat;
+	private ImportIndex importIndex;
+
+	private CodeCleanup codeCleanup;
+
+	private List<String> sources;
+
+	@Setup(Level.Trial) public void setup(BenchmarkWorkspace benchmarkWorkspace) throws IOException {
+		workspace = benchmarkWorkspace.getWorkspace();
+
+		Generator generator = workspace.getGenerator();
+
+		importFormat = new ImportFormat();
+		importIndex = new ImportIndex(generator, getJDKImportTree(),
+				new ModClassScanner(generator.getSourceRoot()).scan());
+
+		codeCleanup = new CodeCleanup();
+
+		try (Stream<Path> entries = Files.walk(generator.getSourceRoot().toPath())) {
+			sources = entries.filter(Files::isRegularFile).filter(e -> e.toString().endsWith(".java")).sorted()
+					.map(e -> FileIO.readFileToString(e.toFile())).toList();
+		}
+	}
+
+	@Benchmark public void arrangeImports(Blackhole blackhole) {
+		for (String source : sources)
+			blackhole.consume(importFormat.arrangeImports(workspace, importIndex, source));
+	}
+
+	@Benchmark public void formatCode(Blackhole blackhole) {
+		for (String source : sources)
+			blackhole.consume(codeCleanup.reformatTheCodeOnly(source));
+	}
+
+	@Benchmark public void arrangeImportsAndFormatCode(Blackhole blackhole) {
+		for (String source : sources) {
+			blackhole.consume(
+					codeCleanup.reformatTheCodeOnly(importFormat.arrangeImports(workspace, importIndex, source)));
+		}
+	}
+
+	private static Map<String, List<String>> getJDKImportTree() throws IOException {
+		Map<String, List<String>> importTree = new HashMap<>();
+		for (ModuleReference moduleReference : ModuleFinder.ofSystem().findAll()) {
+			Set<String> exportedPackages = moduleReference.descriptor().exports().stream()
+					.filter(e -> !e.isQualified()).map(ModuleDescriptor.Exports::source).collect(Collectors.toSet());
+
+			try (ModuleReader reader = moduleReference.open(); Stream<String> resources = reader.list()) {
+				resources.filter(e -> e.endsWith(".class") && !e.contains("$") && !e.endsWith("-info.class"))
+						.map(e -> e.substring(0, e.length() - ".class".length()).replace('/', '.'))
+						.filter(e -> e.lastIndexOf('.') != -1 && exportedPackages.contains(
+								e.substring(0, e.lastIndexOf('.')))).forEach(fqdn -> importTree.computeIfAbsent(
+								fqdn.substring(fqdn.lastIndexOf('.') + 1), key -> new ArrayList<>()).add(fqdn));
+			}
+		}
+		return importTree;
+	}
+
+}
@@ -51,6 +51,12 @@ public abstract class BlocklyToCode implements IGeneratorProvider {
 
 	protected List<IBlockGenerator> blockGenerators;
 
+	// block type to generator lookup built from blockGenerators, rebuilt when generators are added
+	private final Map<IBlockGenerator.BlockType, Map<String, IBlockGenerator>> blockGeneratorsByType = new EnumMap<>(
+			IBlockGenerator.BlockType.class);
+	@Nullable private List<IBlockGenerator> indexedBlockGenerators = null;
+	private int indexedBlockGeneratorsCount = -1;
+
 	protected final BlocklyEditorType editorType;
 
 	protected String lastProceduralBlockType = null;
@@ -167,22 +173,14 @@ public abstract class BlocklyToCode implements IGeneratorProvider {
 				addCompileNote(new BlocklyCompileNote(BlocklyCompileNote.Type.WARNING,
 						L10N.t("blockly.warnings.disabled_block_type.skip", type)));
 			} else {
-				boolean generated = false;
-				for (IBlockGenerator generator : blockGenerators) {
-					if (generator.getBlockType() == IBlockGenerator.BlockType.PROCEDURAL && Arrays.asList(
-							generator.getSupportedBlocks()).contains(type)) {
-						generator.generateBlock(this, block);
-
-						usedBlocks.add(type);
-
-						lastProceduralBlockType = type; // update last block type generated
+				IBlockGenerator generator = getBlockGenerator(IBlockGenerator.BlockType.PROCEDURAL, type);
+				if (generator != null) {
+					generator.generateBlock(this, block);
 
-						generated = true;
-						break;
-					}
-				}
+					usedBlocks.add(type);
 
-				if (!generated) {
+					lastProceduralBlockType = type; // update last block type generated
+				} else {
 					addCompileNote(new BlocklyCompileNote(BlocklyCompileNote.Type.WARNING,
 							L10N.t("blockly.warnings.unknown_block_type.skip", type)));
 				}
@@ -201,26 +199,44 @@ public abstract class BlocklyToCode implements IGeneratorProvider {
 			addCompileNote(new BlocklyCompileNote(BlocklyCompileNote.Type.ERROR,
 					L10N.t("blockly.errors.disabled_block_type.remove", type)));
 		} else {
-			boolean generated = false;
-			for (IBlockGenerator generator : blockGenerators) {
-				if (generator.getBlockType() == IBlockGenerator.BlockType.OUTPUT && Arrays.asList(
-						generator.getSupportedBlocks()).contains(type)) {
-					generator.generateBlock(this, block);
-
-					usedBlocks.add(type);
+			IBlockGenerator generator = getBlockGenerator(IBlockGenerator.BlockType.OUTPUT, type);
+			if (generator != null) {
+				generator.generateBlock(this, block);
 
-					generated = true;
-					break;
-				}
-			}
-
-			if (!generated) {
+				usedBlocks.add(type);
+			} else {
 				addCompileNote(new BlocklyCompileNote(BlocklyCompileNote.Type.ERROR,
 						L10N.t("blockly.errors.unknown_block_type.remove", type)));
 			}
 		}
 	}
 
+	/**
+	 * Finds the generator for the given block type. If more generators support the same block type, the one that was
+	 * registered first is used.
+	 *
+	 * @param blockType Type of the block (procedural or output)
+	 * @param type      Machine name of the block
+	 * @return Generator for the block or null if no registered generator supports it
+	 */
+	@Nullable private IBlockGenerator getBlockGenerator(IBlockGenerator.BlockType blockType, String type) {
+		// generators are registered by subclass constructors, so the lookup is built when first needed
+		if (indexedBlockGenerators != blockGenerators || indexedBlockGeneratorsCount != blockGenerators.size()) {
+			blockGeneratorsByType.clear();
+			for (IBlockGenerator generator : blockGenerators) {
+				Map<String, IBlockGenerator> generators = blockGeneratorsByType.computeIfAbsent(
+						generator.getBlockType(), key -> new HashMap<>());
+				for (String supportedBlock : generator.getSupportedBlocks())
+					generators.putIfAbsent(supportedBlock, generator);
+			}
+			indexedBlockGenerators = blockGenerators;
+			indexedBlockGeneratorsCount = blockGenerators.size();
+		}
+
+		Map<String, IBlockGenerator> generators = blockGeneratorsByType.get(blockType);
+		return generators != null ? generators.get(type) : null;
+	}
+
 	public static String directProcessOutputBlock(BlocklyToCode master, Element element)
 			throws TemplateGeneratorException {
 		// we do a little hack to get the code of the input only
@@ -28,17 +28,14 @@ import net.mcreator.generator.template.TemplateGenerator;
 import net.mcreator.generator.template.TemplateGeneratorException;
 import net.mcreator.ui.blockly.BlocklyEditorType;
 import net.mcreator.ui.init.L10N;
+import net.mcreator.util.XMLUtil;
 import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
 import java.text.ParseException;
 import java.util.List;
 
@@ -58,9 +55,7 @@ public class BlocklyToJSONTrigger extends BlocklyToCode {
 
 		if (sourceXML != null) {
 			try {
-				DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-				Document doc = dBuilder.parse(new InputSource(new StringReader(sourceXML)));
+				Document doc = XMLUtil.parseXML(sourceXML);
 				doc.getDocumentElement().normalize();
 
 				Element start_block = BlocklyBlockUtil.getStartBlock(doc, editorType.startBlockName());
@@ -28,16 +28,14 @@ import net.mcreator.generator.template.TemplateGenerator;
 import net.mcreator.generator.template.TemplateGeneratorException;
 import net.mcreator.ui.blockly.BlocklyEditorType;
 import net.mcreator.ui.init.L10N;
+import net.mcreator.util.XMLUtil;
 import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
 import java.text.ParseException;
 import java.util.List;
 
@@ -61,8 +59,7 @@ public class BlocklyToJava extends BlocklyToCode {
 
 		if (sourceXML != null) {
 			try {
-				final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
-						.parse(new InputSource(new StringReader(sourceXML)));
+				final Document doc = XMLUtil.parseXML(sourceXML);
 				doc.getDocumentElement().normalize();
 
 				Element start_block = BlocklyBlockUtil.getStartBlock(doc, blocklyEditorType.startBlockName());
@@ -26,24 +26,18 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.ls.DOMImplementationLS;
 import org.w3c.dom.ls.LSSerializer;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.ParseException;
 
 public class ProcedureTemplateIO {
 
 	public static void exportBlocklySetup(String blocklyXML, File file, BlocklyEditorType blocklyEditorType)
 			throws ParseException, ParserConfigurationException, IOException, SAXException {
-		DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-		Document doc = dBuilder.parse(new InputSource(new StringReader(blocklyXML)));
+		Document doc = XMLUtil.parseXML(blocklyXML);
 		doc.getDocumentElement().normalize();
 
 		Element start_block = BlocklyBlockUtil.getStartBlock(doc, blocklyEditorType.startBlockName());
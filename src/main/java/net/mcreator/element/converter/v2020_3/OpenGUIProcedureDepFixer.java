@@ -21,19 +21,10 @@ package net.mcreator.element.converter.v2020_3;
 
 import net.mcreator.element.converter.ProcedureConverter;
 import net.mcreator.element.types.Procedure;
+import net.mcreator.util.XMLUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringReader;
-import java.io.StringWriter;
 
 public class OpenGUIProcedureDepFixer extends ProcedureConverter {
 
@@ -42,9 +33,7 @@ public class OpenGUIProcedureDepFixer extends ProcedureConverter {
 	}
 
 	@Override protected String fixXML(Procedure procedure, String xml) throws Exception {
-		DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-		Document doc = dBuilder.parse(new InputSource(new StringReader(xml)));
+		Document doc = XMLUtil.parseXML(xml);
 		doc.getDocumentElement().normalize();
 
 		NodeList nodeList = doc.getElementsByTagName("block");
@@ -84,12 +73,7 @@ public class OpenGUIProcedureDepFixer extends ProcedureConverter {
 			}
 		}
 
-		TransformerFactory transformerFactory = TransformerFactory.newInstance();
-		Transformer transformer = transformerFactory.newTransformer();
-		StringWriter writer = new StringWriter();
-		transformer.transform(new DOMSource(doc), new StreamResult(writer));
-
-		return writer.getBuffer().toString();
+		return XMLUtil.toXMLString(doc);
 	}
 
 }
\ No newline at end of file
@@ -23,22 +23,14 @@ import com.google.gson.JsonElement;
 import net.mcreator.element.GeneratableElement;
 import net.mcreator.element.converter.IConverter;
 import net.mcreator.element.types.Procedure;
+import net.mcreator.util.XMLUtil;
 import net.mcreator.workspace.Workspace;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.HashMap;
 
 public class ProcedureGlobalTriggerFixer implements IConverter {
@@ -50,9 +42,7 @@ public class ProcedureGlobalTriggerFixer implements IConverter {
 		Procedure procedure = (Procedure) input;
 
 		try {
-			DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-			Document doc = dBuilder.parse(new InputSource(new StringReader(procedure.procedurexml)));
+			Document doc = XMLUtil.parseXML(procedure.procedurexml);
 			doc.getDocumentElement().normalize();
 
 			NodeList nodeList = doc.getElementsByTagName("field");
@@ -71,12 +61,7 @@ public class ProcedureGlobalTriggerFixer implements IConverter {
 				}
 			}
 
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			Transformer transformer = transformerFactory.newTransformer();
-			StringWriter writer = new StringWriter();
-			transformer.transform(new DOMSource(doc), new StreamResult(writer));
-
-			procedure.procedurexml = writer.getBuffer().toString();
+			procedure.procedurexml = XMLUtil.toXMLString(doc);
 		} catch (Exception e) {
 			LOG.warn("Failed to fix entity dependency for procedure " + input.getModElement().getName());
 		}
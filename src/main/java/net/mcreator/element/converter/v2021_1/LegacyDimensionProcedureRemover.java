@@ -21,20 +21,12 @@ package net.mcreator.element.converter.v2021_1;
 
 import net.mcreator.element.converter.ProcedureConverter;
 import net.mcreator.element.types.Procedure;
+import net.mcreator.util.XMLUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 
@@ -51,18 +43,14 @@ public class LegacyDimensionProcedureRemover extends ProcedureConverter {
 	}
 
 	@Override protected String fixXML(Procedure procedure, String xml) throws Exception {
-		DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-		Document doc = dBuilder.parse(new InputSource(new StringReader(xml)));
+		Document doc = XMLUtil.parseXML(xml);
 		doc.getDocumentElement().normalize();
 
 		NodeList nodeList = doc.getElementsByTagName("block");
 		for (int i = 0; i < nodeList.getLength(); i++) {
 			Element element = (Element) nodeList.item(i);
 			if (DIMENSION_ID_BLOCKS.contains(element.getAttribute("type"))) {
-				DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder builder = factory.newDocumentBuilder();
-				Document newElementDoc = builder.parse(new InputSource(new StringReader(PLACEHOLDER_BLOCK)));
+				Document newElementDoc = XMLUtil.parseXML(PLACEHOLDER_BLOCK);
 				Element newElement = newElementDoc.getDocumentElement();
 				Node importedNode = doc.importNode(newElement, true);
 				Node clonedNode = doc.adoptNode(importedNode);
@@ -71,12 +59,7 @@ public class LegacyDimensionProcedureRemover extends ProcedureConverter {
 			}
 		}
 
-		TransformerFactory transformerFactory = TransformerFactory.newInstance();
-		Transformer transformer = transformerFactory.newTransformer();
-		StringWriter writer = new StringWriter();
-		transformer.transform(new DOMSource(doc), new StreamResult(writer));
-
-		return writer.getBuffer().toString();
+		return XMLUtil.toXMLString(doc);
 	}
 
 }
@@ -26,17 +26,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -120,9 +110,7 @@ public class MaterialProcedureConverter extends ProcedureConverter {
 	}
 
 	@Override protected String fixXML(Procedure procedure, String xml) throws Exception {
-		DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-		Document doc = dBuilder.parse(new InputSource(new StringReader(xml)));
+		Document doc = XMLUtil.parseXML(xml);
 		doc.getDocumentElement().normalize();
 
 		NodeList nodeList = doc.getElementsByTagName("block");
@@ -149,13 +137,11 @@ public class MaterialProcedureConverter extends ProcedureConverter {
 				if (material != null && blockToTest != null) {
 					if (materialToProcedureBlockMap.containsKey(material)) {
 						newBlockCode = materialToProcedureBlockMap.get(material)
-								.replace("[BLOCK]", elementToText(blockToTest));
+								.replace("[BLOCK]", XMLUtil.toXMLString(blockToTest, true));
 					}
 				}
 
-				DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder builder = factory.newDocumentBuilder();
-				Document newElementDoc = builder.parse(new InputSource(new StringReader(newBlockCode)));
+				Document newElementDoc = XMLUtil.parseXML(newBlockCode);
 				Element newElement = newElementDoc.getDocumentElement();
 				Node importedNode = doc.importNode(newElement, true);
 				Node clonedNode = doc.adoptNode(importedNode);
@@ -164,21 +150,7 @@ public class MaterialProcedureConverter extends ProcedureConverter {
 			}
 		}
 
-		TransformerFactory transformerFactory = TransformerFactory.newInstance();
-		Transformer transformer = transformerFactory.newTransformer();
-		StringWriter writer = new StringWriter();
-		transformer.transform(new DOMSource(doc), new StreamResult(writer));
-
-		return writer.getBuffer().toString();
-	}
-
-	private String elementToText(Element element) throws Exception {
-		TransformerFactory factory = TransformerFactory.newInstance();
-		Transformer transformer = factory.newTransformer();
-		transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-		StringWriter writer = new StringWriter();
-		transformer.transform(new DOMSource(element), new StreamResult(writer));
-		return writer.getBuffer().toString();
+		return XMLUtil.toXMLString(doc);
 	}
 
 }
\ No newline at end of file
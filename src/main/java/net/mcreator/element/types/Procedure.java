@@ -34,23 +34,29 @@ import net.mcreator.generator.template.TemplateGenerator;
 import net.mcreator.generator.template.TemplateGeneratorException;
 import net.mcreator.minecraft.MinecraftImageGenerator;
 import net.mcreator.ui.blockly.BlocklyEditorType;
+import net.mcreator.util.XMLUtil;
 import net.mcreator.workspace.WorkspaceFileManager;
 import net.mcreator.workspace.elements.ModElement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 import javax.annotation.Nullable;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.io.IOException;
+import java.util.*;
 
 public class Procedure extends GeneratableElement {
 
+	private static final Logger LOG = LogManager.getLogger(Procedure.class);
+
 	public static final String XML_BASE = "<xml xmlns=\"https://developers.google.com/blockly/xml\"><block type=\"event_trigger\" deletable=\"false\" x=\"40\" y=\"40\"><field name=\"trigger\">no_ext_trigger</field></block></xml>";
 
 	@BlocklyXML("procedures") public String procedurexml;
 
-	private transient List<Dependency> dependencies = null;
+	private transient volatile List<Dependency> dependencies = null;
 
 	// this flag is only used by tests to force dependencies for trigger tests
 	@VisibleForTesting private transient boolean skipDependencyRegeneration = false;
@@ -60,16 +66,18 @@ public class Procedure extends GeneratableElement {
 	}
 
 	public List<Dependency> getDependencies() {
+		List<Dependency> dependencies = this.dependencies;
 		if (dependencies == null)
-			reloadDependencies();
+			dependencies = reloadDependencies();
 
 		return dependencies;
 	}
 
 	public List<Dependency> reloadDependencies() {
-		dependencies = new ArrayList<>();
+		// the list is only published when complete, as other threads can read it while elements are generated
+		List<Dependency> dependencies = new ArrayList<>();
 		List<?> dependenciesList = (List<?>) getModElement().getMetadata("dependencies");
-		for (Object depobj : dependenciesList) {
+		for (Object depobj : dependenciesList != null ? dependenciesList : List.of()) {
 			Dependency dependency = WorkspaceFileManager.gson.fromJson(
 					WorkspaceFileManager.gson.toJsonTree(depobj).getAsJsonObject(), Dependency.class);
 			dependencies.add(dependency);
@@ -99,9 +107,60 @@ public class Procedure extends GeneratableElement {
 			dependencies.add(0, dependency);
 		}
 
+		this.dependencies = dependencies;
 		return dependencies;
 	}
 
+	/**
+	 * Lists the procedures called by this procedure without compiling it. Dependencies of this procedure include the
+	 * dependencies of these procedures.
+	 *
+	 * @return Names of the procedures called by the procedure call blocks of this procedure
+	 */
+	public Set<String> getCalledProcedures() {
+		Set<String> calledProcedures = new LinkedHashSet<>();
+		if (procedurexml == null)
+			return calledProcedures;
+
+		try {
+			NodeList blocks = XMLUtil.parseXML(procedurexml).getElementsByTagName("block");
+			for (int i = 0; i < blocks.getLength(); i++) {
+				Element block = (Element) blocks.item(i);
+				String type = block.getAttribute("type");
+				if (type.equals("call_procedure") || type.equals("call_procedure_at") || type.equals("old_command")
+						|| type.startsWith("procedure_retval_")) {
+					Element field = XMLUtil.getFirstChildrenWithName(block, "field");
+					if (field != null && !field.getTextContent().isEmpty())
+						calledProcedures.add(field.getTextContent());
+				}
+			}
+		} catch (SAXException | IOException e) {
+			LOG.warn("Failed to list procedures called by " + getModElement().getName(), e);
+		}
+
+		return calledProcedures;
+	}
+
+	private void updateDependencyMetadata(BlocklyToProcedure blocklyToJava) {
+		if (this.skipDependencyRegeneration)
+			return;
+
+		String returnType = blocklyToJava.getReturnType() == null ?
+				null :
+				blocklyToJava.getReturnType().getName().toLowerCase(Locale.ENGLISH);
+
+		ModElement modElement = getModElement();
+		synchronized (modElement) {
+			// metadata is only replaced if it changed, so it is not modified while other threads read it
+			if (!Objects.equals(modElement.getMetadata("return_type"), returnType) || !Objects.equals(
+					WorkspaceFileManager.gson.toJsonTree(modElement.getMetadata("dependencies")),
+					WorkspaceFileManager.gson.toJsonTree(blocklyToJava.getDependencies()))) {
+				modElement.clearMetadata().putMetadata("dependencies", blocklyToJava.getDependencies())
+						.putMetadata("return_type", returnType);
+			}
+		}
+	}
+
 	@Override public BufferedImage generateModElementPicture() {
 		return MinecraftImageGenerator.Preview.generateProcedurePreviewPicture(procedurexml, getDependencies());
 	}
@@ -118,13 +177,8 @@ public class Procedure extends GeneratableElement {
 					trigger = externalTrigger;
 			}
 
-			if (!this.skipDependencyRegeneration) {
-				// we update the dependency list of the procedure
-				this.getModElement().clearMetadata().putMetadata("dependencies", blocklyToJava.getDependencies())
-						.putMetadata("return_type", blocklyToJava.getReturnType() == null ?
-								null :
-								blocklyToJava.getReturnType().getName().toLowerCase(Locale.ENGLISH));
-			}
+			// we update the dependency list of the procedure
+			updateDependencyMetadata(blocklyToJava);
 
 			additionalData.put("dependencies", reloadDependencies());
 			additionalData.put("procedurecode", ProcedureCodeOptimizer.removeMarkers(blocklyToJava.getGeneratedCode()));
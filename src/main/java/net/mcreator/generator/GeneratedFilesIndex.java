@@ -0,0 +1,136 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.generator;
+
+import net.mcreator.io.FileSet;
+import net.mcreator.workspace.elements.ModElement;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Index of mod elements by the files they generated, based on the "files" metadata of mod elements.
+ * <p>
+ * Index is updated when the generator stores the files metadata. Metadata can also be replaced outside the generator
+ * (e.g. by converters), so before each lookup, elements whose files metadata is not the indexed list instance anymore
+ * are indexed again.
+ */
+final class GeneratedFilesIndex {
+
+	private final Generator generator;
+
+	private final Map<Path, ModElement> owners = new HashMap<>();
+	private final Map<ModElement, IndexedFiles> indexed = new IdentityHashMap<>();
+
+	@Nullable private Path workspaceFolderRealPath = null;
+
+	GeneratedFilesIndex(Generator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * @param file File to find the owner of
+	 * @return Mod element whose files metadata contains the given file or null if there is no such mod element
+	 */
+	@Nullable synchronized ModElement getOwner(File file) {
+		sync();
+
+		Path path = FileSet.normalize(file);
+		ModElement owner = owners.get(path);
+		if (owner != null)
+			return owner;
+
+		// file can be reached through a link to the workspace folder, so it is looked up relative to the workspace too
+		try {
+			if (workspaceFolderRealPath == null)
+				workspaceFolderRealPath = generator.getWorkspaceFolder().toPath().toRealPath();
+
+			Path realPath = file.toPath().toRealPath();
+			if (!realPath.equals(path) && realPath.startsWith(workspaceFolderRealPath)) {
+				return owners.get(FileSet.normalize(generator.getWorkspaceFolder())
+						.resolve(workspaceFolderRealPath.relativize(realPath)));
+			}
+		} catch (IOException ignored) {
+		}
+
+		return null;
+	}
+
+	synchronized void update(ModElement element) {
+		index(element, element.getMetadata("files"));
+	}
+
+	private void sync() {
+		int present = 0;
+		for (ModElement element : generator.getWorkspace().getModElements()) {
+			Object files = element.getMetadata("files");
+			IndexedFiles indexedFiles = indexed.get(element);
+			if (indexedFiles != null)
+				present++;
+
+			if (indexedFiles == null ? files != null : indexedFiles.files() != files) {
+				index(element, files);
+				if (indexedFiles == null)
+					present++;
+			}
+		}
+
+		// remove elements that are not in the workspace anymore
+		if (present != indexed.size()) {
+			Set<ModElement> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+			elements.addAll(generator.getWorkspace().getModElements());
+			for (ModElement element : List.copyOf(indexed.keySet())) {
+				if (!elements.contains(element))
+					remove(element);
+			}
+		}
+	}
+
+	private void index(ModElement element, @Nullable Object files) {
+		remove(element);
+
+		List<Path> paths = new ArrayList<>();
+		if (files instanceof List<?> fileList && generator.getGeneratorStats().getModElementTypeCoverageInfo()
+				.get(element.getType()) != GeneratorStats.CoverageStatus.NONE) {
+			File workspaceFolder = generator.getWorkspaceFolder();
+			for (Object file : fileList) {
+				Path path = FileSet.normalize(new File(workspaceFolder, file.toString().replace("/", File.separator)));
+				owners.put(path, element);
+				paths.add(path);
+			}
+		}
+
+		indexed.put(element, new IndexedFiles(files, paths));
+	}
+
+	private void remove(ModElement element) {
+		IndexedFiles indexedFiles = indexed.remove(element);
+		if (indexedFiles != null) {
+			for (Path path : indexedFiles.paths())
+				owners.remove(path, element);
+		}
+	}
+
+	private record IndexedFiles(@Nullable Object files, List<Path> paths) {}
+
+}
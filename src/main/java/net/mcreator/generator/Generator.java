@@ -25,6 +25,8 @@ import net.mcreator.element.ModElementType;
 import net.mcreator.element.ModElementTypeLoader;
 import net.mcreator.element.types.interfaces.ICommonType;
 import net.mcreator.generator.setup.WorkspaceGeneratorSetup;
+import net.mcreator.generator.template.CachedAdditionalTemplateDataProvider;
+import net.mcreator.generator.template.IAdditionalTemplateDataProvider;
 import net.mcreator.generator.template.MinecraftCodeProvider;
 import net.mcreator.generator.template.TemplateExpressionParser;
 import net.mcreator.generator.template.TemplateGenerator;
@@ -33,6 +35,7 @@ import net.mcreator.generator.template.base.BaseDataModelProvider;
 import net.mcreator.generator.usercode.UserCodeProcessor;
 import net.mcreator.gradle.GradleCacheImportFailedException;
 import net.mcreator.io.FileIO;
+import net.mcreator.io.FileSet;
 import net.mcreator.io.UserFolderManager;
 import net.mcreator.io.writer.ClassWriter;
 import net.mcreator.io.writer.JSONWriter;
@@ -49,6 +52,7 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -63,7 +67,7 @@ public class Generator implements IGenerator, Closeable {
 	private final String generatorName;
 	private final GeneratorConfiguration generatorConfiguration;
 
-	private final Map<String, TemplateGenerator> templateGeneratorMap = new HashMap<>();
+	private final Map<String, TemplateGenerator> templateGeneratorMap = new ConcurrentHashMap<>();
 
 	private final MinecraftCodeProvider minecraftCodeProvider;
 
@@ -75,6 +79,15 @@ public class Generator implements IGenerator, Closeable {
 
 	private final BaseDataModelProvider baseDataModelProvider;
 
+	private final GeneratorFingerprintCache fingerprintCache;
+
+	private final GeneratedFilesIndex generatedFilesIndex;
+
+	private final Map<ModElementType<?>, TemplatePlan> templatePlans = new ConcurrentHashMap<>();
+	private final TemplatePlan.WorkspaceTokens workspaceTokens;
+
+	@Nullable private volatile FileSet writtenFiles;
+
 	public Generator(@Nonnull Workspace workspace) {
 		this.workspace = workspace;
 		this.generatorName = workspace.getWorkspaceSettings().getCurrentGenerator();
@@ -86,6 +99,12 @@ public class Generator implements IGenerator, Closeable {
 		this.minecraftCodeProvider = new MinecraftCodeProvider(workspace);
 
 		this.baseDataModelProvider = new BaseDataModelProvider(this);
+
+		this.fingerprintCache = new GeneratorFingerprintCache(this);
+
+		this.generatedFilesIndex = new GeneratedFilesIndex(this);
+
+		this.workspaceTokens = new TemplatePlan.WorkspaceTokens(workspace);
 	}
 
 	@Override public @Nonnull Workspace getWorkspace() {
@@ -195,10 +214,49 @@ public class Generator implements IGenerator, Closeable {
 	@Nonnull
 	public List<GeneratorFile> generateElement(GeneratableElement element, boolean formatAndOrganiseImports,
 			boolean performFSTasks) throws TemplateGeneratorException {
+		return this.generateElement(element, formatAndOrganiseImports, performFSTasks, false);
+	}
+
+	/**
+	 * GeneratableElement should be saved AFTER this method is called, not before
+	 * as it can be altered in this process
+	 *
+	 * @param element                  GeneratableElement to generate code and resources for
+	 * @param formatAndOrganiseImports true if imports should be formatted
+	 * @param performFSTasks           true if generated files should be written to disk
+	 * @param incremental              true if rendering and writing should be skipped when the element was already
+	 *                                 generated from the same inputs and its generated files still exist
+	 * @return List of generated files, empty if generation was skipped
+	 * @throws TemplateGeneratorException if any of the templates fails to generate
+	 */
+	@Nonnull
+	public List<GeneratorFile> generateElement(GeneratableElement element, boolean formatAndOrganiseImports,
+			boolean performFSTasks, boolean incremental) throws TemplateGeneratorException {
+		ElementGeneration generation = renderElement(element, incremental && performFSTasks);
+		if (generation == null)
+			return new ArrayList<>();
+
+		if (performFSTasks)
+			return storeElement(generation, formatAndOrganiseImports);
+
+		return generation.generatedFiles() != null ? new ArrayList<>(generation.generatedFiles()) : new ArrayList<>();
+	}
+
+	/**
+	 * Renders the templates of the given element without touching the file system. This stage can be run in parallel
+	 * for different mod elements.
+	 *
+	 * @param element     GeneratableElement to render templates for
+	 * @param incremental true if rendering should be skipped when the element is up to date
+	 * @return Rendered element or null if the element should not be generated at all
+	 * @throws TemplateGeneratorException if any of the templates fails to generate
+	 */
+	@Nullable ElementGeneration renderElement(GeneratableElement element, boolean incremental)
+			throws TemplateGeneratorException {
 		if (element.getModElement().isCodeLocked()) {
 			LOG.debug("Skipping code generation for mod element: " + element.getModElement().getName()
 					+ " - the code of this element is locked");
-			return new ArrayList<>();
+			return null;
 		}
 
 		Map<?, ?> map = generatorConfiguration.getDefinitionsProvider()
@@ -207,15 +265,27 @@ public class Generator implements IGenerator, Closeable {
 			if (element.getModElement().getType() != ModElementType.UNKNOWN) // silently skip unknown elements
 				LOG.warn("Failed to load element definition for mod element type " + element.getModElement().getType()
 						.getRegistryName());
-			return new ArrayList<>();
+			return null;
+		}
+
+		List<GeneratorTemplate> generatorTemplateList = getModElementGeneratorTemplatesList(element);
+
+		if (incremental && isUpToDate(element, generatorTemplateList)) {
+			LOG.debug("Skipping code generation for mod element: " + element.getModElement().getName()
+					+ " - the generated code is up to date");
+			return new ElementGeneration(element, map, generatorTemplateList, null);
 		}
 
 		Set<GeneratorFile> generatorFiles = new HashSet<>();
 
 		TemplateGenerator templateGenerator = getTemplateGeneratorFromName("templates");
 
+		// additional data (e.g. Blockly code) is usually the same for all templates of the element, so it is only
+		// provided again for templates with a different data model
+		IAdditionalTemplateDataProvider additionalTemplateData = CachedAdditionalTemplateDataProvider.of(
+				element.getAdditionalTemplateData());
+
 		// generate all source files
-		List<GeneratorTemplate> generatorTemplateList = getModElementGeneratorTemplatesList(element);
 		for (GeneratorTemplate generatorTemplate : generatorTemplateList) {
 			String templateFileName = (String) generatorTemplate.getTemplateDefinition().get("template");
 
@@ -231,7 +301,7 @@ public class Generator implements IGenerator, Closeable {
 						element.getAdditionalTemplateData());
 			} else { // regular template
 				code = templateGenerator.generateElementFromTemplate(element, templateFileName, dataModel, variables,
-						element.getAdditionalTemplateData());
+						additionalTemplateData);
 			}
 
 			GeneratorFile generatorFile = generatorTemplate.toGeneratorFile(code);
@@ -241,30 +311,78 @@ public class Generator implements IGenerator, Closeable {
 			generatorFiles.add(generatorFile);
 		}
 
-		if (performFSTasks) {
+		return new ElementGeneration(element, map, generatorTemplateList, generatorFiles);
+	}
+
+	/**
+	 * Checks if {@link #renderElement(GeneratableElement, boolean)} would render the templates of the given element,
+	 * without rendering them.
+	 *
+	 * @param element     GeneratableElement to check
+	 * @param incremental true if elements that are up to date are not rendered
+	 * @return false if the code of the element is locked, the element has no definition or it is up to date
+	 */
+	boolean requiresRendering(GeneratableElement element, boolean incremental) {
+		if (element.getModElement().isCodeLocked() || generatorConfiguration.getDefinitionsProvider()
+				.getModElementDefinition(element.getModElement().getType()) == null)
+			return false;
+
+		return !incremental || !isUpToDate(element, getModElementGeneratorTemplatesList(element));
+	}
+
+	private boolean isUpToDate(GeneratableElement element, List<GeneratorTemplate> generatorTemplateList) {
+		return fingerprintCache.isUpToDate(element, fingerprintCache.computeFingerprint(element, generatorTemplateList));
+	}
+
+	/**
+	 * Writes the rendered element files to disk and updates workspace data (files metadata, localization keys and
+	 * tags) for the element. This stage modifies the workspace and should be called in the mod element order.
+	 *
+	 * @param generation               Rendered element to store
+	 * @param formatAndOrganiseImports true if imports should be formatted
+	 * @return List of written files, empty if the element was up to date
+	 */
+	@Nonnull List<GeneratorFile> storeElement(ElementGeneration generation, boolean formatAndOrganiseImports) {
+		GeneratableElement element = generation.element();
+		Map<?, ?> map = generation.definition();
+		Collection<GeneratorFile> generatorFiles = generation.generatedFiles();
+
+		if (generatorFiles != null) {
 			// remove outdated files for mod element files list (used to know what files belong to the ME for removal on regeneration)
+			// files that are generated again are kept, so they are not rewritten if their contents did not change
+			Set<File> newFiles = generatorFiles.stream().map(GeneratorFile::getFile).map(File::getAbsoluteFile)
+					.collect(Collectors.toSet());
 			Object oldFiles = element.getModElement().getMetadata("files");
 			if (oldFiles instanceof List<?> fileList)
 				// filter by files in workspace so one can not create .mcreator file that would delete files on computer when opened
 				fileList.stream().map(e -> new File(getWorkspaceFolder(), e.toString().replace("/", File.separator)))
+						.filter(e -> !newFiles.contains(e.getAbsoluteFile()))
 						.filter(workspace.getFolderManager()::isFileInWorkspace).forEach(File::delete);
 
-			// generate files as old files were deleted
+			// generate files as outdated files were deleted
 			generateFiles(generatorFiles, formatAndOrganiseImports);
 
 			// store paths of generated files
 			element.getModElement().putMetadata("files", generatorFiles.stream().map(GeneratorFile::getFile)
 					.map(e -> getFolderManager().getPathInWorkspace(e).replace(File.separator, "/")).toList());
+			generatedFilesIndex.update(element.getModElement());
+		}
 
-			// add lang keys to the workspace
-			LocalizationUtils.generateLocalizationKeys(this, element, (List<?>) map.get("localizationkeys"));
+		// add lang keys to the workspace (also for up-to-date elements as they are not stored in element files)
+		LocalizationUtils.generateLocalizationKeys(this, element, (List<?>) map.get("localizationkeys"));
 
-			// add tag elements to the workspace
-			TagsUtils.processDefinitionToTags(this, element, (List<?>) map.get("tags"), false);
+		// add tag elements to the workspace
+		TagsUtils.processDefinitionToTags(this, element, (List<?>) map.get("tags"), false);
 
-			// do additional tasks if mod element has them
-			element.finalizeModElementGeneration();
-		}
+		// do additional tasks if mod element has them
+		element.finalizeModElementGeneration();
+
+		if (generatorFiles == null)
+			return new ArrayList<>();
+
+		// fingerprint is computed after generation as the element can be altered in the process
+		fingerprintCache.put(element.getModElement(),
+				fingerprintCache.computeFingerprint(element, generation.templates()));
 
 		return new ArrayList<>(generatorFiles);
 	}
@@ -300,6 +418,8 @@ public class Generator implements IGenerator, Closeable {
 				template.getFile().delete();
 		}
 
+		fingerprintCache.invalidate(generatableElement.getModElement());
+
 		// delete localization keys associated with the mod element from the workspace
 		LocalizationUtils.deleteLocalizationKeys(this, generatableElement, (List<?>) map.get("localizationkeys"));
 
@@ -426,10 +546,9 @@ public class Generator implements IGenerator, Closeable {
 		if (generatableElement == null)
 			throw new RuntimeException("GeneratableElement is null");
 
-		Map<?, ?> map = generatorConfiguration.getDefinitionsProvider()
-				.getModElementDefinition(generatableElement.getModElement().getType());
+		TemplatePlan plan = getTemplatePlan(generatableElement.getModElement().getType());
 
-		if (map == null) {
+		if (plan == null) {
 			if (generatableElement.getModElement().getType()
 					!= ModElementType.UNKNOWN) // silently skip unknown elements
 				LOG.info("Failed to load element definition for mod element type " + generatableElement.getModElement()
@@ -438,37 +557,30 @@ public class Generator implements IGenerator, Closeable {
 		}
 
 		Set<GeneratorTemplate> files = new HashSet<>();
-		List<?> templates = (List<?>) map.get("templates");
-		if (templates != null) {
-			int templateID = 0;
+		int templateID = 0;
 
-			for (Object template : templates) {
-				File file = new File(GeneratorTokens.replaceVariableTokens(generatableElement,
-						GeneratorTokens.replaceTokens(workspace,
-								((String) ((Map<?, ?>) template).get("name")).replace("@NAME",
-										generatableElement.getModElement().getName()).replace("@registryname",
-										generatableElement.getModElement().getRegistryName()))));
+		for (TemplatePlan.PlannedTemplate template : plan.templates()) {
+			File file = new File(template.resolveName(workspaceTokens, generatableElement, null, -1));
 
-				if (!workspace.getFolderManager().isFileInWorkspace(file))
-					continue; // if file is not in workspace, we skip it
+			if (!workspace.getFolderManager().isFileInWorkspace(file))
+				continue; // if file is not in workspace, we skip it
 
-				GeneratorTemplate generatorTemplate = new GeneratorTemplate(file,
-						Integer.toString(templateID) + ((Map<?, ?>) template).get("template"), (Map<?, ?>) template);
+			GeneratorTemplate generatorTemplate = new GeneratorTemplate(file, templateID + template.templateName(),
+					template.definition());
 
-				if (generatorTemplate.shouldBeSkippedBasedOnCondition(this, generatableElement)) {
-					continue;
-				}
+			if (generatorTemplate.shouldBeSkippedBasedOnCondition(this, generatableElement)) {
+				continue;
+			}
 
-				// only preserve the last template for given file (only the last template matching given file will be generated)
-				files.remove(generatorTemplate);
-				files.add(generatorTemplate);
+			// only preserve the last template for given file (only the last template matching given file will be generated)
+			files.remove(generatorTemplate);
+			files.add(generatorTemplate);
 
-				templateID++;
-			}
+			templateID++;
 		}
 
 		// we add all list templates (if any) for given element to the list
-		getModElementListTemplates(generatableElement).forEach(list -> list.templates().forEach(files::addAll));
+		getModElementListTemplates(generatableElement, plan).forEach(list -> list.templates().forEach(files::addAll));
 
 		return new ArrayList<>(files);
 	}
@@ -477,103 +589,141 @@ public class Generator implements IGenerator, Closeable {
 		if (generatableElement == null)
 			throw new RuntimeException("GeneratableElement is null");
 
-		Map<?, ?> map = generatorConfiguration.getDefinitionsProvider()
-				.getModElementDefinition(generatableElement.getModElement().getType());
-		if (map == null) {
+		TemplatePlan plan = getTemplatePlan(generatableElement.getModElement().getType());
+		if (plan == null) {
 			LOG.info("Failed to load element list templates definition for mod element type "
 					+ generatableElement.getModElement().getType().getRegistryName());
 			return new ArrayList<>();
 		}
 
+		return getModElementListTemplates(generatableElement, plan);
+	}
+
+	private List<GeneratorTemplatesList> getModElementListTemplates(GeneratableElement generatableElement,
+			TemplatePlan plan) {
 		Set<GeneratorTemplatesList> fileLists = new HashSet<>();
 
-		List<?> templateLists = (List<?>) map.get("list_templates");
-		if (templateLists != null) {
-			int templateID = 0;
-			for (Object list : templateLists) {
-				List<?> templates = (List<?>) ((Map<?, ?>) list).get("forEach");
-				if (templates != null) {
-					String groupName = (String) ((Map<?, ?>) list).get("name");
-					Object listData = TemplateExpressionParser.processFTLExpression(this,
-							(String) ((Map<?, ?>) list).get("listData"), generatableElement);
-
-					// we check type of listData collection and convert it to a list if needed
-					List<?> items;
-					if (listData instanceof Map<?, ?> listMap)
-						items = List.copyOf(listMap.entrySet());
-					else if (listData instanceof Collection<?> collection)
-						items = List.copyOf(collection);
-					else if (listData instanceof Iterable<?> iterable) // fallback for the worst case
-						items = List.copyOf(StreamSupport.stream(iterable.spliterator(), false).toList());
-					else
-						items = List.of();
-
-					GeneratorTemplatesList templatesList = new GeneratorTemplatesList(groupName, items,
-							new ArrayList<>());
-
-					for (int index = 0; index < items.size(); index++) {
-						Set<ListTemplate> filesForCurrentItem = new HashSet<>();
-						for (Object template : templates) {
-							File file = new File(
-									GeneratorTokens.replaceVariableTokens(generatableElement, items.get(index),
-											GeneratorTokens.replaceTokens(workspace,
-													((String) ((Map<?, ?>) template).get("name")).replace("@NAME",
-																	generatableElement.getModElement().getName())
-															.replace("@registryname", generatableElement.getModElement()
-																	.getRegistryName())
-															.replace("@itemindex", Integer.toString(index)))));
-
-							if (!workspace.getFolderManager().isFileInWorkspace(file))
-								continue; // if file is not in workspace, we skip it
-
-							ListTemplate listTemplate = new ListTemplate(file,
-									Integer.toString(templateID) + ((Map<?, ?>) template).get("template"),
-									templatesList, index, (Map<?, ?>) template);
-
-							if (listTemplate.shouldBeSkippedBasedOnCondition(this, items.get(index)))
-								continue;
-
-							// only preserve the last template for given file (only the last template matching given file will be generated)
-							filesForCurrentItem.remove(listTemplate);
-							filesForCurrentItem.add(listTemplate);
-
-							templateID++;
-						}
-
-						templatesList.templates().add(List.copyOf(filesForCurrentItem));
-					}
+		int templateID = 0;
+		for (TemplatePlan.PlannedTemplatesList list : plan.listTemplates()) {
+			String groupName = list.groupName();
+			Object listData = TemplateExpressionParser.processFTLExpression(this, list.listData(), generatableElement);
+
+			// we check type of listData collection and convert it to a list if needed
+			List<?> items;
+			if (listData instanceof Map<?, ?> listMap)
+				items = List.copyOf(listMap.entrySet());
+			else if (listData instanceof Collection<?> collection)
+				items = List.copyOf(collection);
+			else if (listData instanceof Iterable<?> iterable) // fallback for the worst case
+				items = List.copyOf(StreamSupport.stream(iterable.spliterator(), false).toList());
+			else
+				items = List.of();
 
-					fileLists.add(templatesList);
+			GeneratorTemplatesList templatesList = new GeneratorTemplatesList(groupName, items, new ArrayList<>());
+
+			for (int index = 0; index < items.size(); index++) {
+				Set<ListTemplate> filesForCurrentItem = new HashSet<>();
+				for (TemplatePlan.PlannedTemplate template : list.templates()) {
+					File file = new File(
+							template.resolveName(workspaceTokens, generatableElement, items.get(index), index));
+
+					if (!workspace.getFolderManager().isFileInWorkspace(file))
+						continue; // if file is not in workspace, we skip it
+
+					ListTemplate listTemplate = new ListTemplate(file, templateID + template.templateName(),
+							templatesList, index, template.definition());
+
+					if (listTemplate.shouldBeSkippedBasedOnCondition(this, items.get(index)))
+						continue;
+
+					// only preserve the last template for given file (only the last template matching given file will be generated)
+					filesForCurrentItem.remove(listTemplate);
+					filesForCurrentItem.add(listTemplate);
+
+					templateID++;
 				}
+
+				templatesList.templates().add(List.copyOf(filesForCurrentItem));
 			}
+
+			fileLists.add(templatesList);
 		}
 
 		return new ArrayList<>(fileLists);
 	}
 
+	/**
+	 * Template plans are read from the element definitions once per generator and reused for all mod elements of the
+	 * same type.
+	 *
+	 * @param type Mod element type to get the template plan for
+	 * @return Template plan of the given type or null if the generator does not define the type
+	 */
+	@Nullable private TemplatePlan getTemplatePlan(ModElementType<?> type) {
+		TemplatePlan plan = templatePlans.computeIfAbsent(type, key -> {
+			Map<?, ?> definition = generatorConfiguration.getDefinitionsProvider().getModElementDefinition(key);
+			return definition != null ? TemplatePlan.of(definition) : TemplatePlan.EMPTY;
+		});
+		return plan != TemplatePlan.EMPTY ? plan : null;
+	}
+
+	/**
+	 * @param modElement Mod element that should be fully generated again by the next incremental regeneration
+	 */
+	public void invalidateGenerationFingerprint(ModElement modElement) {
+		fingerprintCache.invalidate(modElement);
+	}
+
+	/**
+	 * Stores generation fingerprints to the workspace cache folder so they can be used by the next regeneration
+	 */
+	public void saveGenerationFingerprints() {
+		fingerprintCache.save();
+	}
+
+	/**
+	 * Starts recording the files written by the generator and its file tasks. Files that are not written because their
+	 * contents did not change are recorded too, so the recorded files are all files the generator still produces.
+	 */
+	public void startRecordingWrittenFiles() {
+		writtenFiles = new FileSet();
+	}
+
+	/**
+	 * @return Files written since {@link #startRecordingWrittenFiles()} was called
+	 */
+	public FileSet stopRecordingWrittenFiles() {
+		FileSet files = writtenFiles;
+		writtenFiles = null;
+		return files != null ? files : new FileSet();
+	}
+
+	/**
+	 * @return Set to add written files to or null if written files are not being recorded
+	 */
+	@Nullable FileSet getWrittenFilesRecord() {
+		return writtenFiles;
+	}
+
+	void recordWrittenFile(File file) {
+		FileSet files = writtenFiles;
+		if (files != null)
+			files.add(file);
+	}
+
 	public ModElement getModElementThisFileBelongsTo(File file) {
 		if (!file.isFile() || !workspace.getFolderManager().isFileInWorkspace(file))
 			return null;
 
-		return workspace.getModElements().parallelStream().filter(element -> {
-			if (generatorConfiguration.getGeneratorStats().getModElementTypeCoverageInfo().get(element.getType())
-					== GeneratorStats.CoverageStatus.NONE)
-				return false;
-
-			Object oldFiles = element.getMetadata("files");
-			if (oldFiles instanceof List<?> fileList) {
-				return FileIO.isFileOnFileList(fileList.stream()
-								.map(e -> new File(getWorkspaceFolder(), e.toString().replace("/", File.separator))).toList(),
-						file);
-			} else {
-				return false;
-			}
-		}).findAny().orElse(null);
+		return generatedFilesIndex.getOwner(file);
 	}
 
 	private void generateFiles(Collection<GeneratorFile> generatorFiles, boolean formatAndOrganiseImports) {
 		Map<File, String> javaFiles = new HashMap<>();
 
+		// files with unchanged contents are not written again to preserve their modification time
+		int unchangedFiles = 0;
+
 		for (GeneratorFile generatorFile : generatorFiles) {
 			if (generatorFile.writer() == GeneratorFile.Writer.JAVA) {
 				// first create Java files if they do not exist already for the import formatter to load them
@@ -584,21 +734,29 @@ public class Generator implements IGenerator, Closeable {
 				javaFiles.put(generatorFile.getFile(),
 						UserCodeProcessor.processUserCode(generatorFile.getFile(), generatorFile.contents(), "//"));
 			} else if (generatorFile.writer() == GeneratorFile.Writer.JSON) {
-				JSONWriter.writeJSONToFile(generatorFile.contents(), generatorFile.getFile());
+				if (!FileIO.writeStringToFileIfChanged(JSONWriter.formatJSON(generatorFile.contents()),
+						generatorFile.getFile()))
+					unchangedFiles++;
+				recordWrittenFile(generatorFile.getFile());
 			} else if (generatorFile.writer() == GeneratorFile.Writer.FILE) {
 				String usercodeComment = generatorFile.source().getUsercodeComment();
-				if (usercodeComment != null)
-					FileIO.writeStringToFile(
-							UserCodeProcessor.processUserCode(generatorFile.getFile(), generatorFile.contents(),
-									usercodeComment), generatorFile.getFile());
-				else
-					FileIO.writeStringToFile(generatorFile.contents(), generatorFile.getFile());
+				String contents = usercodeComment != null ?
+						UserCodeProcessor.processUserCode(generatorFile.getFile(), generatorFile.contents(),
+								usercodeComment) :
+						generatorFile.contents();
+				if (!FileIO.writeStringToFileIfChanged(contents, generatorFile.getFile()))
+					unchangedFiles++;
+				recordWrittenFile(generatorFile.getFile());
 			}
 		}
 
 		// After we have list of Java files, and they are created, we can format and organise imports in them
 		if (!javaFiles.isEmpty())
-			ClassWriter.batchWriteClassToFile(workspace, javaFiles, formatAndOrganiseImports, null);
+			unchangedFiles += ClassWriter.batchWriteClassToFile(workspace, javaFiles, formatAndOrganiseImports, null,
+					getWrittenFilesRecord());
+
+		if (unchangedFiles > 0)
+			LOG.debug("Skipped writing " + unchangedFiles + " of " + generatorFiles.size() + " unchanged files");
 	}
 
 	public void runResourceSetupTasks() {
@@ -627,6 +785,8 @@ public class Generator implements IGenerator, Closeable {
 	}
 
 	@Override public void close() {
+		fingerprintCache.save();
+
 		if (gradleProjectConnection != null) {
 			LOG.info("Closing Gradle project connection");
 			gradleProjectConnection.close();
@@ -645,6 +805,8 @@ public class Generator implements IGenerator, Closeable {
 			if (generatorGradleCache != null) {
 				LOG.info("Gradle cache will be loaded from cache file");
 				generatorGradleCache.reinitAfterGSON(this);
+				if (generatorGradleCache.isOutdatedFormat()) // rewrite old caches without the embedded import tree
+					storeGradleCache();
 				return;
 			}
 		}
@@ -661,6 +823,10 @@ public class Generator implements IGenerator, Closeable {
 		LOG.info("Reloading generator Gradle cache");
 
 		this.generatorGradleCache = new GeneratorGradleCache(this);
+		storeGradleCache();
+	}
+
+	private void storeGradleCache() {
 		String cache = new GsonBuilder().disableHtmlEscaping().create().toJson(generatorGradleCache);
 		FileIO.writeStringToFile(cache,
 				new File(workspace.getFolderManager().getWorkspaceCacheDir(), "generatorGradleCache"));
@@ -674,4 +840,15 @@ public class Generator implements IGenerator, Closeable {
 		this.generatorGradleCache = generatorGradleCache;
 	}
 
+	/**
+	 * Result of the rendering stage of the mod element generation
+	 *
+	 * @param element        GeneratableElement that was rendered
+	 * @param definition     Mod element definition used to render the element
+	 * @param templates      Templates resolved for the element
+	 * @param generatedFiles Rendered files or null if the element is up to date and its files do not need to be written
+	 */
+	record ElementGeneration(GeneratableElement element, Map<?, ?> definition, List<GeneratorTemplate> templates,
+							 @Nullable Collection<GeneratorFile> generatedFiles) {}
+
 }
@@ -64,6 +64,7 @@ public class GeneratorFileTasks {
 						FileIO.emptyDirectory(
 								new File(to)); // first delete existing contents of the destination directory
 						FileIO.copyDirectory(new File(from), new File(to));
+						Arrays.stream(FileIO.listFilesRecursively(new File(to))).forEach(generator::recordWrittenFile);
 					}
 				}
 				case "copy_file" -> {
@@ -72,8 +73,10 @@ public class GeneratorFileTasks {
 					String to = GeneratorTokens.replaceTokens(generator.getWorkspace(),
 							(String) ((Map<?, ?>) task).get("to"));
 					if (generator.getWorkspace().getFolderManager().isFileInWorkspace(new File(to)) && new File(
-							from).isFile())
+							from).isFile()) {
 						FileIO.copyFile(new File(from), new File(to));
+						generator.recordWrittenFile(new File(to));
+					}
 				}
 				case "copy_and_resize_image" -> {
 					String from = GeneratorTokens.replaceTokens(generator.getWorkspace(),
@@ -90,6 +93,7 @@ public class GeneratorFileTasks {
 							BufferedImage image = ImageIO.read(new File(from));
 							BufferedImage resized = ImageUtils.toBufferedImage(ImageUtils.resize(image, w, h));
 							ImageIO.write(resized, "png", new File(to));
+							generator.recordWrittenFile(new File(to));
 						} catch (IOException e) {
 							generator.getLogger().warn("Failed to read image file for resizing", e);
 						}
@@ -98,6 +102,7 @@ public class GeneratorFileTasks {
 							BufferedImage resized = ImageUtils.toBufferedImage(
 									ImageUtils.resize(UIRES.getBuiltIn("fallback").getImage(), w, h));
 							ImageIO.write(resized, "png", new File(to));
+							generator.recordWrittenFile(new File(to));
 						} catch (IOException e) {
 							generator.getLogger().warn("Failed to read image file for resizing", e);
 						}
@@ -118,7 +123,10 @@ public class GeneratorFileTasks {
 							if (model.getType() == Model.Type.OBJ)
 								Arrays.stream(model.getFiles())
 										.limit(2) // we only copy fist two elements, we skip last one which is texture mapping if it exists
-										.forEach(f -> FileIO.copyFile(f, new File(to, f.getName())));
+										.forEach(f -> {
+											FileIO.copyFile(f, new File(to, f.getName()));
+											generator.recordWrittenFile(new File(to, f.getName()));
+										});
 						break;
 					case "OBJ_inlinetextures":
 						String prefix = GeneratorTokens.replaceTokens(generator.getWorkspace(),
@@ -127,14 +135,19 @@ public class GeneratorFileTasks {
 							if (model.getType() == Model.Type.OBJ) {
 								Arrays.stream(model.getFiles())
 										.limit(2) // we only copy fist two elements, we skip last one which is texture mapping if it exists
-										.forEach(f -> ModelUtils.copyOBJorMTLApplyTextureMapping(f,
-												new File(to, f.getName()), model, prefix));
+										.forEach(f -> {
+											ModelUtils.copyOBJorMTLApplyTextureMapping(f, new File(to, f.getName()),
+													model, prefix);
+											generator.recordWrittenFile(new File(to, f.getName()));
+										});
 							}
 						break;
 					case "JSON":
 						for (Model model : modelList)
-							if (model.getType() == Model.Type.JSON)
+							if (model.getType() == Model.Type.JSON) {
 								FileIO.copyFile(model.getFile(), new File(to, model.getFile().getName()));
+								generator.recordWrittenFile(new File(to, model.getFile().getName()));
+							}
 						break;
 					case "JSON_noinlinetextures":
 						for (Model model : modelList)
@@ -142,6 +155,7 @@ public class GeneratorFileTasks {
 								String jsonorig = FileIO.readFileToString(model.getFile());
 								String notextures = ModelUtils.removeInlineTexturesSectionFromJSONModel(jsonorig);
 								FileIO.writeStringToFile(notextures, new File(to, model.getFile().getName()));
+								generator.recordWrittenFile(new File(to, model.getFile().getName()));
 							}
 						break;
 					case "JAVA_viatemplate":
@@ -161,7 +175,8 @@ public class GeneratorFileTasks {
 											.error("Failed to generate code for model: " + model.getFile(), e);
 								}
 								ClassWriter.writeClassToFile(generator.getWorkspace(), modelCode,
-										new File(to, model.getReadableName() + ".java"), true);
+										new File(to, model.getReadableName() + ".java"), true,
+										generator.getWrittenFilesRecord());
 							}
 						break;
 					}
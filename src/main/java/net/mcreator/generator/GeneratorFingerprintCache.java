@@ -0,0 +1,187 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.generator;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import net.mcreator.Launcher;
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.io.FileIO;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.WorkspaceFileManager;
+import net.mcreator.workspace.elements.ModElement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores a fingerprint of the inputs used the last time each mod element was generated, so elements whose
+ * inputs did not change can be skipped during incremental code regeneration.
+ * <p>
+ * Fingerprint covers the mod element definition (.mod.json contents), mod element name and registry name, workspace
+ * settings, generator name and version, MCreator version and the resolved set of templates for the element.
+ */
+public class GeneratorFingerprintCache {
+
+	private static final Logger LOG = LogManager.getLogger("Generator Fingerprints");
+
+	private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+	private final Generator generator;
+
+	private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+	private boolean loaded = false;
+	private volatile boolean dirty = false;
+
+	GeneratorFingerprintCache(Generator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * Computes the fingerprint of the current state of the given element for the given resolved template list
+	 *
+	 * @param element   GeneratableElement to compute the fingerprint for
+	 * @param templates Templates resolved for the element by the generator
+	 * @return Hex encoded fingerprint or null if the fingerprint could not be computed
+	 */
+	@Nullable public String computeFingerprint(GeneratableElement element, List<GeneratorTemplate> templates) {
+		Workspace workspace = generator.getWorkspace();
+		ModElement modElement = element.getModElement();
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			update(digest, generator.getGeneratorName());
+			update(digest, generator.getFullGeneratorVersion());
+			if (Launcher.version != null)
+				update(digest, Long.toString(Launcher.version.versionlong));
+
+			update(digest, WorkspaceFileManager.gson.toJson(workspace.getWorkspaceSettings()));
+
+			update(digest, modElement.getName());
+			update(digest, modElement.getRegistryName());
+			update(digest, workspace.getModElementManager().generatableElementToJSON(element));
+
+			templates.stream().sorted(Comparator.comparing(t -> t.getFile().getPath())).forEach(template -> {
+				update(digest, generator.getFolderManager().getPathInWorkspace(template.getFile()));
+				update(digest, template.getTemplateIdentifier());
+				update(digest, String.valueOf(template.getTemplateDefinition().get("writer")));
+				update(digest, String.valueOf(template.getTemplateDefinition().get("variables")));
+			});
+
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			LOG.warn("Failed to compute generation fingerprint for " + modElement.getName(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * @param element     GeneratableElement to check
+	 * @param fingerprint Fingerprint of the current state of the element
+	 * @return true if the element was last generated from the same inputs and all of its generated files still exist
+	 */
+	public boolean isUpToDate(GeneratableElement element, @Nullable String fingerprint) {
+		if (fingerprint == null)
+			return false;
+
+		ModElement modElement = element.getModElement();
+		if (!fingerprint.equals(getFingerprints().get(modElement.getName())))
+			return false;
+
+		if (modElement.getMetadata("files") instanceof List<?> fileList) {
+			for (Object file : fileList) {
+				if (!new File(generator.getWorkspaceFolder(), file.toString().replace("/", File.separator)).isFile())
+					return false;
+			}
+			return true;
+		}
+
+		return false;
+	}
+
+	public void put(ModElement element, @Nullable String fingerprint) {
+		if (fingerprint == null) {
+			invalidate(element);
+		} else if (!fingerprint.equals(getFingerprints().put(element.getName(), fingerprint))) {
+			dirty = true;
+		}
+	}
+
+	public void invalidate(ModElement element) {
+		if (getFingerprints().remove(element.getName()) != null)
+			dirty = true;
+	}
+
+	/**
+	 * Writes the fingerprints to the workspace cache folder if they were changed since they were last stored
+	 */
+	public void save() {
+		if (!dirty)
+			return;
+
+		dirty = false;
+		FileIO.writeStringToFile(gson.toJson(getFingerprints()), getCacheFile());
+	}
+
+	private synchronized Map<String, String> getFingerprints() {
+		if (!loaded) {
+			loaded = true;
+
+			File cacheFile = getCacheFile();
+			if (cacheFile.isFile()) {
+				try {
+					Map<String, String> stored = gson.fromJson(FileIO.readFileToString(cacheFile),
+							new TypeToken<Map<String, String>>() {}.getType());
+					if (stored != null)
+						fingerprints.putAll(stored);
+				} catch (JsonSyntaxException e) {
+					LOG.warn("Failed to load generation fingerprints, all elements will be regenerated", e);
+				}
+			}
+		}
+
+		return fingerprints;
+	}
+
+	private File getCacheFile() {
+		return new File(generator.getFolderManager().getWorkspaceCacheDir(), "generatorFingerprints");
+	}
+
+	private static void update(MessageDigest digest, @Nullable String value) {
+		if (value != null)
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+}
@@ -20,7 +20,7 @@ package net.mcreator.generator;
 
 import net.mcreator.gradle.GradleCacheImportFailedException;
 import net.mcreator.io.UserFolderManager;
-import net.mcreator.java.ImportTreeBuilder;
+import net.mcreator.java.ImportTreeIndex;
 import net.mcreator.java.ProjectJarManager;
 import net.mcreator.workspace.Workspace;
 
@@ -30,19 +30,37 @@ import java.util.Map;
 
 public class GeneratorGradleCache {
 
+	/**
+	 * Version of the cache file format. Version 0 caches stored the import tree in the cache file itself.
+	 */
+	static final int FORMAT_VERSION = 1;
+
 	@Nullable transient ProjectJarManager projectJarManager;
 
+	// import tree is stored in a shared binary index in the user folder, see ImportTreeIndex
+	private transient Map<String, List<String>> importTree;
+
 	private final List<ClasspathEntry> classpath;
-	private final Map<String, List<String>> importTree;
+
+	private int formatVersion;
 
 	GeneratorGradleCache(Generator generator) {
 		projectJarManager = new ProjectJarManager(generator);
 		this.classpath = projectJarManager.getClasspath();
-		this.importTree = ImportTreeBuilder.generateImportTree(this.projectJarManager);
+		this.importTree = ImportTreeIndex.loadOrCreate(this.projectJarManager);
+		this.formatVersion = FORMAT_VERSION;
 	}
 
 	void reinitAfterGSON(Generator generator) throws GradleCacheImportFailedException {
 		projectJarManager = new ProjectJarManager(generator, classpath);
+		importTree = ImportTreeIndex.loadOrCreate(projectJarManager);
+	}
+
+	/**
+	 * @return true if this cache was loaded from a cache file written in an older format
+	 */
+	boolean isOutdatedFormat() {
+		return formatVersion != FORMAT_VERSION;
 	}
 
 	public Map<String, List<String>> getImportTree() {
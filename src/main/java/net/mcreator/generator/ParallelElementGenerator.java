@@ -0,0 +1,263 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.generator;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.element.ModElementType;
+import net.mcreator.element.types.Procedure;
+import net.mcreator.workspace.elements.ModElement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates mod elements using a bounded pool of worker threads.
+ * <p>
+ * Worker threads load generatable elements and render their templates. Rendered elements are then written to disk and
+ * registered in the workspace on the calling thread, in the order they were rendered in, while the workers continue
+ * rendering the next elements.
+ * <p>
+ * Rendering a procedure updates its dependencies, which include the dependencies of the procedures it calls and are
+ * read by all elements using the procedure. Procedures that are rendered are therefore rendered first, each after the
+ * procedures it calls, and the other mod elements are only rendered once these procedures are rendered.
+ */
+public class ParallelElementGenerator {
+
+	private static final Logger LOG = LogManager.getLogger("Parallel Generator");
+
+	private final Generator generator;
+	private final int threads;
+
+	public ParallelElementGenerator(Generator generator) {
+		this(generator, Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelElementGenerator(Generator generator, int threads) {
+		this.generator = generator;
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Generates the given mod elements. Results are passed to the consumer on the calling thread in the order the
+	 * elements are rendered in: procedures that are rendered first, then the other mod elements in the provided order.
+	 *
+	 * @param modElements Mod elements to generate
+	 * @param incremental true if elements that are up to date should not be rendered and written
+	 * @param consumer    Consumer of generation results
+	 * @return Statistics of this generation run
+	 */
+	public GenerationStats generate(Collection<ModElement> modElements, boolean incremental,
+			ResultConsumer consumer) {
+		long start = System.nanoTime();
+
+		int generated = 0, skipped = 0, failed = 0;
+
+		// procedures that will be rendered, with the procedures they call
+		Map<String, Set<String>> procedureCalls = new LinkedHashMap<>();
+		List<ModElement> renderOrder = orderByProcedureCalls(modElements, incremental, procedureCalls);
+
+		ExecutorService executor = createExecutor();
+		try {
+			// limit the number of rendered elements waiting to be stored, so they do not all stay in memory
+			int window = threads * 4;
+
+			// procedures that are still rendering or waiting to be stored, procedures that were already stored are done
+			Map<String, Future<RenderedElement>> pendingProcedures = new HashMap<>();
+
+			Iterator<ModElement> iterator = renderOrder.iterator();
+			Deque<PendingElement> pending = new ArrayDeque<>(window);
+			while (iterator.hasNext() || !pending.isEmpty()) {
+				while (iterator.hasNext() && pending.size() < window) {
+					ModElement modElement = iterator.next();
+
+					// procedures wait for the procedures they call, other elements wait for all procedures, tasks
+					// only wait for tasks submitted before them, so the worker threads can not block each other
+					Set<String> calls = procedureCalls.get(modElement.getName());
+					List<Future<RenderedElement>> awaited = calls != null ?
+							calls.stream().map(pendingProcedures::get).filter(Objects::nonNull).toList() :
+							List.copyOf(pendingProcedures.values());
+
+					Future<RenderedElement> future = executor.submit(() -> {
+						for (Future<RenderedElement> procedure : awaited) {
+							try {
+								procedure.get();
+							} catch (ExecutionException ignored) {
+								// failure is reported with the result of the procedure
+							}
+						}
+						return render(modElement, incremental);
+					});
+					pending.add(new PendingElement(modElement, future));
+					if (calls != null)
+						pendingProcedures.put(modElement.getName(), future);
+				}
+
+				PendingElement next = pending.poll();
+				pendingProcedures.remove(next.modElement().getName(), next.future());
+				Result result;
+				try {
+					result = store(next.future().get());
+				} catch (ExecutionException e) {
+					LOG.error("Failed to generate mod element " + next.modElement().getName(), e.getCause());
+					result = new Result(next.modElement(), null, List.of(),
+							e.getCause() instanceof Exception cause ? cause : e);
+				}
+
+				if (result.exception() != null)
+					failed++;
+				else if (result.generatedFiles().isEmpty())
+					skipped++;
+				else
+					generated++;
+
+				consumer.accept(result);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		GenerationStats stats = new GenerationStats(generated, skipped, failed, threads,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		LOG.info("Generated " + stats.generated() + " mod elements (" + stats.skipped() + " skipped, " + stats.failed()
+				+ " failed) in " + stats.durationMillis() + " ms using " + stats.threads() + " threads ("
+				+ String.format(Locale.ROOT, "%.1f", stats.throughput()) + " elements/s)");
+		return stats;
+	}
+
+	/**
+	 * Orders the given mod elements for rendering. Procedures that will be rendered come first, each after the
+	 * procedures it calls, followed by the other mod elements in the provided order.
+	 *
+	 * @param modElements    Mod elements to generate
+	 * @param incremental    true if elements that are up to date are not rendered
+	 * @param procedureCalls Map to store the procedures that will be rendered and the procedures they call to
+	 * @return Mod elements in the order they should be rendered in
+	 */
+	private List<ModElement> orderByProcedureCalls(Collection<ModElement> modElements, boolean incremental,
+			Map<String, Set<String>> procedureCalls) {
+		Map<String, ModElement> procedures = new LinkedHashMap<>();
+		List<ModElement> otherElements = new ArrayList<>();
+		for (ModElement modElement : modElements) {
+			if (modElement.getType() == ModElementType.PROCEDURE
+					&& modElement.getGeneratableElement() instanceof Procedure procedure
+					&& generator.requiresRendering(procedure, incremental)) {
+				procedures.put(modElement.getName(), modElement);
+				procedureCalls.put(modElement.getName(), procedure.getCalledProcedures());
+			} else {
+				otherElements.add(modElement);
+			}
+		}
+
+		List<ModElement> renderOrder = new ArrayList<>(modElements.size());
+		Set<String> visited = new HashSet<>();
+		for (String name : procedures.keySet())
+			addCalledProceduresFirst(name, procedures, procedureCalls, visited, renderOrder);
+		renderOrder.addAll(otherElements);
+		return renderOrder;
+	}
+
+	private void addCalledProceduresFirst(String name, Map<String, ModElement> procedures,
+			Map<String, Set<String>> procedureCalls, Set<String> visited, List<ModElement> renderOrder) {
+		ModElement procedure = procedures.get(name);
+		if (procedure == null || !visited.add(name)) // visited check also stops on recursive procedure calls
+			return;
+
+		for (String calledProcedure : procedureCalls.get(name))
+			addCalledProceduresFirst(calledProcedure, procedures, procedureCalls, visited, renderOrder);
+
+		renderOrder.add(procedure);
+	}
+
+	private RenderedElement render(ModElement modElement, boolean incremental) {
+		GeneratableElement generatableElement = modElement.getGeneratableElement();
+		if (generatableElement == null)
+			return new RenderedElement(modElement, null, null, null);
+
+		try {
+			return new RenderedElement(modElement, generatableElement,
+					generator.renderElement(generatableElement, incremental), null);
+		} catch (Exception e) {
+			return new RenderedElement(modElement, generatableElement, null, e);
+		}
+	}
+
+	private Result store(RenderedElement rendered) {
+		if (rendered.generation() == null)
+			return new Result(rendered.modElement(), rendered.generatableElement(), List.of(), rendered.exception());
+
+		try {
+			return new Result(rendered.modElement(), rendered.generatableElement(),
+					generator.storeElement(rendered.generation(), true), null);
+		} catch (Exception e) {
+			return new Result(rendered.modElement(), rendered.generatableElement(), List.of(), e);
+		}
+	}
+
+	private ExecutorService createExecutor() {
+		AtomicInteger threadID = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "ElementGenerator-" + threadID.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private record PendingElement(ModElement modElement, Future<RenderedElement> future) {}
+
+	private record RenderedElement(ModElement modElement, @Nullable GeneratableElement generatableElement,
+								   @Nullable Generator.ElementGeneration generation, @Nullable Exception exception) {}
+
+	/**
+	 * @param modElement         Mod element this result belongs to
+	 * @param generatableElement Loaded generatable element or null if it could not be loaded
+	 * @param generatedFiles     Files written for the element, empty if nothing was written
+	 * @param exception          Exception thrown while generating the element, if any
+	 */
+	public record Result(ModElement modElement, @Nullable GeneratableElement generatableElement,
+						 List<GeneratorFile> generatedFiles, @Nullable Exception exception) {}
+
+	/**
+	 * @param generated      Number of mod elements whose files were written
+	 * @param skipped        Number of mod elements that were not written (locked, up to date or not loaded)
+	 * @param failed         Number of mod elements that failed to generate
+	 * @param threads        Number of worker threads used
+	 * @param durationMillis Duration of the generation in milliseconds
+	 */
+	public record GenerationStats(int generated, int skipped, int failed, int threads, long durationMillis) {
+
+		public double throughput() {
+			return (generated + skipped + failed) / Math.max(durationMillis / 1000.0, 0.001);
+		}
+
+	}
+
+	@FunctionalInterface public interface ResultConsumer {
+
+		void accept(Result result);
+
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.generator;
+
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.settings.WorkspaceSettings;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Templates and list templates of a mod element definition, read from the raw definition once, so resolving the
+ * templates of a mod element only needs to substitute the tokens of the template names.
+ *
+ * @param templates     Templates of the mod element definition
+ * @param listTemplates List templates of the mod element definition
+ */
+record TemplatePlan(List<PlannedTemplate> templates, List<PlannedTemplatesList> listTemplates) {
+
+	static final TemplatePlan EMPTY = new TemplatePlan(List.of(), List.of());
+
+	static TemplatePlan of(Map<?, ?> definition) {
+		List<PlannedTemplate> templates = new ArrayList<>();
+		if (definition.get("templates") instanceof List<?> templateList) {
+			for (Object template : templateList)
+				templates.add(PlannedTemplate.of((Map<?, ?>) template));
+		}
+
+		List<PlannedTemplatesList> listTemplates = new ArrayList<>();
+		if (definition.get("list_templates") instanceof List<?> templateLists) {
+			for (Object list : templateLists) {
+				if (((Map<?, ?>) list).get("forEach") instanceof List<?> forEach) {
+					List<PlannedTemplate> listItemTemplates = new ArrayList<>();
+					for (Object template : forEach)
+						listItemTemplates.add(PlannedTemplate.of((Map<?, ?>) template));
+					listTemplates.add(new PlannedTemplatesList((String) ((Map<?, ?>) list).get("name"),
+							(String) ((Map<?, ?>) list).get("listData"), List.copyOf(listItemTemplates)));
+				}
+			}
+		}
+
+		return new TemplatePlan(List.copyOf(templates), List.copyOf(listTemplates));
+	}
+
+	/**
+	 * @param definition     Template definition
+	 * @param name           Template file name with tokens
+	 * @param templateName   Name of the template file
+	 * @param elementTokens  true if the name contains mod element name, registry name or list item index tokens
+	 * @param variableTokens true if the name contains tokens referring to mod element or list item values
+	 */
+	record PlannedTemplate(Map<?, ?> definition, String name, String templateName, boolean elementTokens,
+						   boolean variableTokens) {
+
+		static PlannedTemplate of(Map<?, ?> definition) {
+			String name = (String) definition.get("name");
+			return new PlannedTemplate(definition, name, String.valueOf(definition.get("template")),
+					name.contains("@NAME") || name.contains("@registryname") || name.contains("@itemindex"),
+					name.contains("@["));
+		}
+
+		/**
+		 * @param tokens    Workspace tokens of the generator
+		 * @param element   Mod element the template is resolved for
+		 * @param listItem  List item the template is resolved for or null if this is not a list template
+		 * @param itemIndex Index of the list item or -1 if this is not a list template
+		 * @return Template file name with all tokens replaced
+		 */
+		String resolveName(WorkspaceTokens tokens, GeneratableElement element, @Nullable Object listItem,
+				int itemIndex) {
+			String resolved = tokens.replaceTokens(name);
+
+			if (elementTokens) {
+				resolved = resolved.replace("@NAME", element.getModElement().getName())
+						.replace("@registryname", element.getModElement().getRegistryName());
+				if (itemIndex >= 0)
+					resolved = resolved.replace("@itemindex", Integer.toString(itemIndex));
+			}
+
+			if (variableTokens)
+				resolved = GeneratorTokens.replaceVariableTokens(element, listItem, resolved);
+
+			return resolved;
+		}
+
+	}
+
+	/**
+	 * @param groupName Name of the list templates group
+	 * @param listData  FTL expression providing the list items
+	 * @param templates Templates generated for each list item
+	 */
+	record PlannedTemplatesList(String groupName, String listData, List<PlannedTemplate> templates) {}
+
+	/**
+	 * Caches template file names with workspace tokens replaced. Names are resolved again when the workspace settings
+	 * the tokens depend on change.
+	 */
+	static final class WorkspaceTokens {
+
+		private final Workspace workspace;
+
+		private volatile Snapshot snapshot;
+
+		WorkspaceTokens(Workspace workspace) {
+			this.workspace = workspace;
+		}
+
+		String replaceTokens(String rawname) {
+			WorkspaceSettings settings = workspace.getWorkspaceSettings();
+
+			Snapshot current = snapshot;
+			if (current == null || !current.matches(settings)) {
+				current = new Snapshot(settings);
+				snapshot = current;
+			}
+
+			return current.resolvedNames.computeIfAbsent(rawname,
+					key -> GeneratorTokens.replaceTokens(workspace, settings, key));
+		}
+
+		private static final class Snapshot {
+
+			private final String modid;
+			private final String javaModName;
+			private final String modPicture;
+			private final String modElementsPackage;
+
+			private final Map<String, String> resolvedNames = new ConcurrentHashMap<>();
+
+			private Snapshot(WorkspaceSettings settings) {
+				this.modid = settings.getModID();
+				this.javaModName = settings.getJavaModName();
+				this.modPicture = settings.getModPicture();
+				this.modElementsPackage = settings.getModElementsPackage();
+			}
+
+			private boolean matches(WorkspaceSettings settings) {
+				return Objects.equals(modid, settings.getModID()) && Objects.equals(javaModName,
+						settings.getJavaModName()) && Objects.equals(modPicture, settings.getModPicture())
+						&& Objects.equals(modElementsPackage, settings.getModElementsPackage());
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.generator.template;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Additional template data provider that runs the wrapped provider only once for the same template data model and
+ * hands the entries it produced to every following template of the same element with an equal data model.
+ * <p>
+ * Element data providers usually compile Blockly XML of the element to code. Blockly blocks can use the template data
+ * model, so the provided entries are only reused if the data model the provider gets is equal. One instance should be
+ * used for the regular templates of an element within a single generation pass, list templates should use the
+ * provider directly as their data model differs for each list item.
+ */
+public final class CachedAdditionalTemplateDataProvider implements IAdditionalTemplateDataProvider {
+
+	private final IAdditionalTemplateDataProvider provider;
+
+	private final List<CachedData> cache = new ArrayList<>(1);
+
+	private CachedAdditionalTemplateDataProvider(IAdditionalTemplateDataProvider provider) {
+		this.provider = provider;
+	}
+
+	/**
+	 * @param provider Provider to wrap, can be null
+	 * @return Caching provider wrapping the given provider or null if the given provider is null
+	 */
+	@Nullable public static IAdditionalTemplateDataProvider of(@Nullable IAdditionalTemplateDataProvider provider) {
+		if (provider == null || provider instanceof CachedAdditionalTemplateDataProvider)
+			return provider;
+		return new CachedAdditionalTemplateDataProvider(provider);
+	}
+
+	@Override public void provideAdditionalData(Map<String, Object> originalData) throws TemplateGeneratorException {
+		for (CachedData cached : cache) {
+			if (cached.input().equals(originalData)) {
+				originalData.putAll(cached.provided());
+				return;
+			}
+		}
+
+		// remember the original values, so only entries put by the provider are cached
+		Map<String, Object> before = new HashMap<>(originalData);
+
+		provider.provideAdditionalData(originalData);
+
+		Map<String, Object> provided = new HashMap<>();
+		for (Map.Entry<String, Object> entry : originalData.entrySet()) {
+			if (!before.containsKey(entry.getKey()) || before.get(entry.getKey()) != entry.getValue())
+				provided.put(entry.getKey(), entry.getValue());
+		}
+		cache.add(new CachedData(before, provided));
+	}
+
+	private record CachedData(Map<String, Object> input, Map<String, Object> provided) {}
+
+}
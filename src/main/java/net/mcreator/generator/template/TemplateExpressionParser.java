@@ -26,13 +26,20 @@ import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class TemplateExpressionParser {
 
 	private static final Logger LOG = LogManager.getLogger("Template expression parser");
 
+	// conditions come from generator definitions, so there is a limited number of them
+	private static final Map<String, Condition> conditionCache = new ConcurrentHashMap<>();
+
 	public static boolean shouldSkipTemplateBasedOnCondition(@Nonnull Generator generator, @Nonnull Map<?, ?> template,
 			@Nullable Object conditionDataProvider) {
 		Operator operator = Operator.AND;
@@ -77,50 +84,50 @@ public class TemplateExpressionParser {
 	private static boolean parseCondition(@Nonnull Generator generator, @Nonnull String condition,
 			@Nonnull Object conditionDataProvider) {
 		try {
-			int indexOf;
-			if (condition.startsWith("${")) {
-				Object processed = processFTLExpression(generator, condition.substring(2, condition.length() - 1),
-						conditionDataProvider);
-				return processed instanceof Boolean check && check;
-			} else if ((indexOf = condition.indexOf("#?=")) >= 0) { // check if value == one of the other values in list
-				int field = (int) getValueFrom(condition.substring(0, indexOf), conditionDataProvider);
-				return Arrays.stream(condition.substring(indexOf + 3).trim().split(",")).mapToInt(Integer::parseInt)
-						.anyMatch(e -> e == field);
-			} else if ((indexOf = condition.indexOf("#=")) >= 0) { // check if value == other value
-				int field = (int) getValueFrom(condition.substring(0, indexOf), conditionDataProvider);
-				int value = Integer.parseInt(condition.substring(indexOf + 2).trim());
-				return value == field;
-			} else if ((indexOf = condition.indexOf("%=")) >= 0) { // compare strings
-				String field = (String) getValueFrom(condition.substring(0, indexOf), conditionDataProvider);
-				String value = condition.substring(indexOf + 2).trim();
-				return value.equals(field);
-			} else {
-				return (boolean) getValueFrom(condition, conditionDataProvider);
-			}
-		} catch (Exception e) {
+			return conditionCache.computeIfAbsent(condition, TemplateExpressionParser::compileCondition)
+					.test(generator, conditionDataProvider);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			LOG.error("Failed to parse condition: " + condition, e);
 		}
 
 		return false;
 	}
 
-	private static Object getValueFrom(String memberName, Object conditionDataProvider)
-			throws ReflectiveOperationException {
-		memberName = memberName.trim();
-		if (memberName.endsWith("()")) { // method
-			return conditionDataProvider.getClass().getMethod(memberName.substring(0, memberName.length() - 2))
-					.invoke(conditionDataProvider);
-		} else { // field
-			return conditionDataProvider.getClass().getField(memberName).get(conditionDataProvider);
+	private static Condition compileCondition(String condition) {
+		int indexOf;
+		if (condition.startsWith("${")) {
+			String expression = condition.substring(2, condition.length() - 1);
+			return (generator, conditionDataProvider) -> processFTLExpression(generator, expression,
+					conditionDataProvider) instanceof Boolean check && check;
+		} else if ((indexOf = condition.indexOf("#?=")) >= 0) { // check if value == one of the other values in list
+			MemberAccessor member = new MemberAccessor(condition.substring(0, indexOf));
+			int[] values = Arrays.stream(condition.substring(indexOf + 3).trim().split(","))
+					.mapToInt(Integer::parseInt).toArray();
+			return (generator, conditionDataProvider) -> {
+				int field = (int) member.getValue(conditionDataProvider);
+				return Arrays.stream(values).anyMatch(e -> e == field);
+			};
+		} else if ((indexOf = condition.indexOf("#=")) >= 0) { // check if value == other value
+			MemberAccessor member = new MemberAccessor(condition.substring(0, indexOf));
+			int value = Integer.parseInt(condition.substring(indexOf + 2).trim());
+			return (generator, conditionDataProvider) -> value == (int) member.getValue(conditionDataProvider);
+		} else if ((indexOf = condition.indexOf("%=")) >= 0) { // compare strings
+			MemberAccessor member = new MemberAccessor(condition.substring(0, indexOf));
+			String value = condition.substring(indexOf + 2).trim();
+			return (generator, conditionDataProvider) -> value.equals(member.getValue(conditionDataProvider));
+		} else {
+			MemberAccessor member = new MemberAccessor(condition);
+			return (generator, conditionDataProvider) -> (boolean) member.getValue(conditionDataProvider);
 		}
 	}
 
 	public static Object processFTLExpression(Generator generator, String expression, Object dataHolder) {
 		try {
-			Map<String, Object> dataModel = new HashMap<>(generator.getBaseDataModelProvider().provide());
 			AtomicReference<?> retVal = new AtomicReference<>(null);
-			dataModel.put("data", dataHolder);
-			dataModel.put("_", retVal);
+			Map<String, Object> dataModel = new ExpressionDataModel(generator.getBaseDataModelProvider().provide(),
+					dataHolder, retVal);
 
 			Template t = InlineTemplatesHandler.getTemplate("${_.set(" + expression + ")}");
 			t.process(dataModel, NullWriter.INSTANCE,
@@ -138,4 +145,82 @@ public class TemplateExpressionParser {
 		AND, OR
 	}
 
+	@FunctionalInterface private interface Condition {
+
+		boolean test(Generator generator, Object conditionDataProvider) throws Throwable;
+
+	}
+
+	/**
+	 * Reads a public field or calls a public no-argument method of the condition data provider. Method handles are
+	 * resolved once for each class of condition data providers.
+	 */
+	private static final class MemberAccessor extends ClassValue<MethodHandle> {
+
+		private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private final String memberName;
+		private final boolean method;
+
+		private MemberAccessor(String memberName) {
+			memberName = memberName.trim();
+			this.method = memberName.endsWith("()");
+			this.memberName = method ? memberName.substring(0, memberName.length() - 2) : memberName;
+		}
+
+		private Object getValue(Object conditionDataProvider) throws Throwable {
+			return get(conditionDataProvider.getClass()).invokeExact(conditionDataProvider);
+		}
+
+		@Override protected MethodHandle computeValue(Class<?> type) {
+			try {
+				MethodHandle handle = method ?
+						MethodHandles.publicLookup().unreflect(type.getMethod(memberName)) :
+						MethodHandles.publicLookup().unreflectGetter(type.getField(memberName));
+				return handle.asType(ACCESSOR_TYPE);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalArgumentException("Failed to access " + memberName + " of " + type.getName(), e);
+			}
+		}
+
+	}
+
+	/**
+	 * Data model of an inline expression: base data model with the expression data holder and return value on top.
+	 * Base data model is read through, so it is not copied again for each expression.
+	 */
+	private static final class ExpressionDataModel extends AbstractMap<String, Object> {
+
+		private final Map<String, Object> baseDataModel;
+		private final Object dataHolder;
+		private final AtomicReference<?> retVal;
+
+		private ExpressionDataModel(Map<String, Object> baseDataModel, Object dataHolder,
+				AtomicReference<?> retVal) {
+			this.baseDataModel = baseDataModel;
+			this.dataHolder = dataHolder;
+			this.retVal = retVal;
+		}
+
+		@Override public Object get(Object key) {
+			if ("data".equals(key))
+				return dataHolder;
+			else if ("_".equals(key))
+				return retVal;
+			return baseDataModel.get(key);
+		}
+
+		@Override public boolean containsKey(Object key) {
+			return "data".equals(key) || "_".equals(key) || baseDataModel.containsKey(key);
+		}
+
+		@Override public @Nonnull Set<Entry<String, Object>> entrySet() {
+			Map<String, Object> dataModel = new HashMap<>(baseDataModel);
+			dataModel.put("data", dataHolder);
+			dataModel.put("_", retVal);
+			return dataModel.entrySet();
+		}
+
+	}
+
 }
@@ -23,12 +23,15 @@ import net.mcreator.generator.Generator;
 import net.mcreator.generator.GeneratorWrapper;
 import net.mcreator.generator.template.TemplateHelper;
 import net.mcreator.java.JavaConventions;
+import net.mcreator.workspace.settings.WorkspaceSettings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class BaseDataModelProvider {
 
@@ -38,6 +41,8 @@ public class BaseDataModelProvider {
 
 	private final Generator generator;
 
+	@Nullable private volatile BaseDataModel baseDataModel;
+
 	@SuppressWarnings("InstantiationOfUtilityClass") public BaseDataModelProvider(Generator generator) {
 		this.generator = generator;
 
@@ -54,12 +59,42 @@ public class BaseDataModelProvider {
 		providedData.put("mcc", generator.getMinecraftCodeProvider());
 	}
 
+	/**
+	 * The returned map is shared between calls and is only created again when the workspace settings change, so it
+	 * can not be modified, but it can be read from multiple threads.
+	 *
+	 * @return Unmodifiable base data model for the current workspace settings
+	 */
 	public Map<String, Object> provide() {
-		providedData.put("settings", generator.getWorkspaceSettings()); // workspaceSettings is not final!
-		providedData.put("modid", generator.getWorkspaceSettings().getModID());
-		providedData.put("JavaModName", generator.getWorkspaceSettings().getJavaModName());
-		providedData.put("package", generator.getWorkspaceSettings().getModElementsPackage());
-		return Collections.unmodifiableMap(providedData);
+		WorkspaceSettings settings = generator.getWorkspaceSettings(); // workspaceSettings is not final!
+		BaseDataModel cached = baseDataModel;
+		if (cached == null || !cached.isFor(settings)) {
+			Map<String, Object> data = new HashMap<>(providedData);
+			data.put("settings", settings);
+			data.put("modid", settings.getModID());
+			data.put("JavaModName", settings.getJavaModName());
+			data.put("package", settings.getModElementsPackage());
+			cached = new BaseDataModel(settings, settings.getModID(), settings.getModElementsPackage(),
+					Collections.unmodifiableMap(data));
+			baseDataModel = cached;
+		}
+		return cached.data();
+	}
+
+	/**
+	 * @param settings           Workspace settings the data model was created for
+	 * @param modid              Mod ID of the settings when the data model was created
+	 * @param modElementsPackage Mod elements package of the settings when the data model was created
+	 * @param data               Unmodifiable base data model
+	 */
+	private record BaseDataModel(WorkspaceSettings settings, String modid, String modElementsPackage,
+								 Map<String, Object> data) {
+
+		private boolean isFor(WorkspaceSettings settings) {
+			return this.settings == settings && Objects.equals(modid, settings.getModID()) && Objects.equals(
+					modElementsPackage, settings.getModElementsPackage());
+		}
+
 	}
 
 }
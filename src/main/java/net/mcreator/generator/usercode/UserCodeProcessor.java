@@ -19,15 +19,19 @@
 
 package net.mcreator.generator.usercode;
 
-import net.mcreator.io.FileIO;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nullable;
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class UserCodeProcessor {
@@ -37,18 +41,31 @@ public class UserCodeProcessor {
 	private static final String USER_CODE_BLOCK_START = " Start of user code block ";
 	private static final String USER_CODE_BLOCK_END = " End of user code block ";
 
+	// files modified this close to the time they were indexed are read again, as file system timestamps can be coarse
+	private static final long TIMESTAMP_GRANULARITY = 2000;
+
+	private static final int INDEX_LIMIT = 4096;
+
+	// user code blocks of recently processed files, so files without changes are not read again on each regeneration
+	private static final Map<File, IndexedFile> index = Collections.synchronizedMap(
+			new LinkedHashMap<>(16, 0.75f, true) {
+				@Override protected boolean removeEldestEntry(Map.Entry<File, IndexedFile> eldest) {
+					return size() > INDEX_LIMIT;
+				}
+			});
+
 	public static String processUserCode(File currentCodeFile, String newCode, String lineCommentStart) {
 		// If the new code does not contain user code blocks, we can return the new code
-		if (!newCode.contains(USER_CODE_BLOCK_START) || !newCode.contains(USER_CODE_BLOCK_END))
+		if (!containsUserCodeBlocks(newCode))
 			return newCode;
 
-		if (currentCodeFile.isFile()) {
-			String currentCode = FileIO.readFileToString(currentCodeFile);
-			return processUserCode(currentCode, newCode, lineCommentStart);
-		}
+		Map<String, String> userCodeBlocks = getUserCodeBlocks(currentCodeFile, lineCommentStart);
 
-		// If the current code is null, we can return the new code
-		return newCode;
+		// If the current code does not contain user code blocks, we can return the new code directly
+		if (userCodeBlocks.isEmpty())
+			return newCode;
+
+		return updateUserBlocks(newCode, userCodeBlocks, lineCommentStart);
 	}
 
 	public static String processUserCode(@Nullable String currentCode, String newCode, String lineCommentStart) {
@@ -56,15 +73,17 @@ public class UserCodeProcessor {
 		if (currentCode == null || currentCode.isBlank())
 			return newCode;
 
-		// If the new code does not contain user code blocks, we can return the new code
-		if (!newCode.contains(USER_CODE_BLOCK_START) || !newCode.contains(USER_CODE_BLOCK_END))
+		// If the new code or the current code does not contain user code blocks, we can return the new code
+		if (!containsUserCodeBlocks(newCode) || !containsUserCodeBlocks(currentCode))
 			return newCode;
 
-		// If the current code does not contain user code blocks, we can return the new code
-		if (!currentCode.contains(USER_CODE_BLOCK_START) || !currentCode.contains(USER_CODE_BLOCK_END))
+		Map<String, String> userCodeBlocks;
+		try (BufferedReader reader = new BufferedReader(new StringReader(currentCode))) {
+			userCodeBlocks = readUserCodeBlocks(reader, lineCommentStart);
+		} catch (IOException e) {
+			LOG.warn("Failed to parse user code blocks", e);
 			return newCode;
-
-		Map<String, String> userCodeBlocks = getUserCodeBlocks(currentCode, lineCommentStart);
+		}
 
 		// If the user code blocks are empty, we can return the new code directly
 		if (userCodeBlocks.isEmpty())
@@ -73,58 +92,120 @@ public class UserCodeProcessor {
 		return updateUserBlocks(newCode, userCodeBlocks, lineCommentStart);
 	}
 
-	private static Map<String, String> getUserCodeBlocks(String code, String lineCommentStart) {
+	private static boolean containsUserCodeBlocks(String code) {
+		return code.contains(USER_CODE_BLOCK_START) && code.contains(USER_CODE_BLOCK_END);
+	}
+
+	private static Map<String, String> getUserCodeBlocks(File codeFile, String lineCommentStart) {
+		if (!codeFile.isFile()) {
+			index.remove(codeFile);
+			return Collections.emptyMap();
+		}
+
+		long lastModified = codeFile.lastModified();
+		long length = codeFile.length();
+
+		IndexedFile indexedFile = index.get(codeFile);
+		if (indexedFile != null && indexedFile.isValid(lastModified, length, lineCommentStart))
+			return indexedFile.userCodeBlocks();
+
+		long indexTime = System.currentTimeMillis();
+		Map<String, String> userCodeBlocks;
+		try (BufferedReader reader = Files.newBufferedReader(codeFile.toPath(), StandardCharsets.UTF_8)) {
+			userCodeBlocks = readUserCodeBlocks(reader, lineCommentStart);
+		} catch (IOException e) {
+			LOG.warn("Failed to parse user code blocks of " + codeFile, e);
+			return Collections.emptyMap();
+		}
+
+		index.put(codeFile, new IndexedFile(lastModified, length, indexTime, lineCommentStart, userCodeBlocks));
+		return userCodeBlocks;
+	}
+
+	/**
+	 * Reads user code blocks in a single pass, keeping only the contents of the blocks.
+	 */
+	private static Map<String, String> readUserCodeBlocks(BufferedReader reader, String lineCommentStart)
+			throws IOException {
 		Map<String, String> userCodeBlocks = new HashMap<>();
 
-		try (BufferedReader reader = new BufferedReader(new StringReader(code))) {
-			String currentUserCodeBlock = null;
-			StringBuilder currentUserCodeBlockContent = new StringBuilder();
-
-			final String codeBlockStart = lineCommentStart + USER_CODE_BLOCK_START;
-
-			String line;
-			while ((line = reader.readLine()) != null) {
-				line = line.strip();
-
-				if (line.startsWith(codeBlockStart)) {
-					currentUserCodeBlock = line.substring(codeBlockStart.length()).strip();
-					currentUserCodeBlockContent = new StringBuilder();
-				} else if (line.equals(lineCommentStart + USER_CODE_BLOCK_END + currentUserCodeBlock)) {
-					String currentUserCodeBlockContentString = currentUserCodeBlockContent.toString();
-					if (currentUserCodeBlock != null && !currentUserCodeBlockContentString.isBlank())
-						userCodeBlocks.put(currentUserCodeBlock, currentUserCodeBlockContentString);
-					currentUserCodeBlock = null;
-				} else if (currentUserCodeBlock != null) {
-					currentUserCodeBlockContent.append(line).append("\n");
-				}
+		final String codeBlockStart = lineCommentStart + USER_CODE_BLOCK_START;
+		final String codeBlockEnd = lineCommentStart + USER_CODE_BLOCK_END;
+
+		String currentUserCodeBlock = null;
+		StringBuilder currentUserCodeBlockContent = null;
+
+		String line;
+		while ((line = reader.readLine()) != null) {
+			int start = firstNonWhitespace(line);
+
+			if (line.startsWith(codeBlockStart, start)) {
+				currentUserCodeBlock = line.substring(start + codeBlockStart.length()).strip();
+				currentUserCodeBlockContent = new StringBuilder();
+			} else if (currentUserCodeBlock != null && line.startsWith(codeBlockEnd, start) && line.substring(
+					start + codeBlockEnd.length()).strip().equals(currentUserCodeBlock)) {
+				if (!currentUserCodeBlockContent.toString().isBlank())
+					userCodeBlocks.put(currentUserCodeBlock, currentUserCodeBlockContent.toString());
+				currentUserCodeBlock = null;
+			} else if (currentUserCodeBlock != null) {
+				currentUserCodeBlockContent.append(line).append("\n");
 			}
-		} catch (Exception e) {
-			LOG.warn("Failed to parse user code blocks", e);
 		}
 
-		return userCodeBlocks;
+		return userCodeBlocks.isEmpty() ? Collections.emptyMap() : userCodeBlocks;
 	}
 
+	/**
+	 * Copies the new code and inserts the contents of user code blocks after their start markers. Lines of the new
+	 * code are copied as they are.
+	 */
 	private static String updateUserBlocks(String code, Map<String, String> userCodeBlocks, String lineCommentStart) {
-		StringBuilder newCode = new StringBuilder();
-		try (BufferedReader reader = new BufferedReader(new StringReader(code))) {
-			final String codeBlockStart = lineCommentStart + USER_CODE_BLOCK_START;
-
-			String line;
-			while ((line = reader.readLine()) != null) {
-				line = line.strip();
-				newCode.append(line).append("\n");
-				if (line.startsWith(codeBlockStart)) {
-					String currentUserCodeBlock = line.substring(codeBlockStart.length()).strip();
-					String userCodeBlockContent = userCodeBlocks.get(currentUserCodeBlock);
-					if (userCodeBlockContent != null)
-						newCode.append(userCodeBlockContent);
+		final String codeBlockStart = lineCommentStart + USER_CODE_BLOCK_START;
+
+		StringBuilder newCode = new StringBuilder(code.length() + 256);
+
+		int copied = 0;
+		int markerIndex = code.indexOf(codeBlockStart);
+		while (markerIndex >= 0) {
+			int lineStart = code.lastIndexOf('\n', markerIndex - 1) + 1;
+			int lineEnd = code.indexOf('\n', markerIndex);
+			if (lineEnd < 0)
+				lineEnd = code.length();
+
+			// only markers at the start of a line mark user code blocks
+			if (code.substring(lineStart, markerIndex).isBlank()) {
+				String userCodeBlockContent = userCodeBlocks.get(
+						code.substring(markerIndex + codeBlockStart.length(), lineEnd).strip());
+				if (userCodeBlockContent != null) {
+					newCode.append(code, copied, lineEnd);
+					newCode.append("\n");
+					newCode.append(userCodeBlockContent);
+					copied = Math.min(lineEnd + 1, code.length());
 				}
 			}
-		} catch (Exception e) {
-			LOG.warn("Failed to parse user code blocks", e);
+
+			markerIndex = code.indexOf(codeBlockStart, lineEnd);
 		}
+
+		newCode.append(code, copied, code.length());
 		return newCode.toString();
 	}
 
+	private static int firstNonWhitespace(String line) {
+		int index = 0;
+		while (index < line.length() && Character.isWhitespace(line.charAt(index)))
+			index++;
+		return index;
+	}
+
+	private record IndexedFile(long lastModified, long length, long indexTime, String lineCommentStart,
+							   Map<String, String> userCodeBlocks) {
+
+		private boolean isValid(long lastModified, long length, String lineCommentStart) {
+			return this.lastModified == lastModified && this.length == length && this.lineCommentStart.equals(
+					lineCommentStart) && lastModified < indexTime - TIMESTAMP_GRANULARITY;
+		}
+
+	}
+
 }
@@ -0,0 +1,194 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.gradle;
+
+import net.mcreator.util.MultiStringMatcher;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Records known error signatures in the Gradle task output while the output is being received, so the task result can
+ * be decoded by {@link GradleErrorDecoder} without scanning the whole output again.
+ * <p>
+ * All signatures are matched in a single pass over each received line. Non-breaking spaces are matched as spaces.
+ */
+public final class GradleErrorClassifier {
+
+	private static final MultiStringMatcher MATCHER = new MultiStringMatcher(
+			Arrays.stream(Signature.values()).map(signature -> signature.text).toList());
+
+	private static final Signature[] SIGNATURES = Signature.values();
+
+	private final Set<Signature> outputMatches = EnumSet.noneOf(Signature.class);
+	private final Set<Signature> errorMatches = EnumSet.noneOf(Signature.class);
+
+	private final Set<File> compilationErrorFiles = new LinkedHashSet<>();
+
+	/**
+	 * @param text Line or lines received from the standard output
+	 */
+	public synchronized void acceptOutput(String text) {
+		scan(text, outputMatches);
+	}
+
+	/**
+	 * @param text Line or lines received from the standard error
+	 */
+	public synchronized void acceptError(String text) {
+		scan(text, errorMatches);
+	}
+
+	/**
+	 * @param signature Signature to check
+	 * @return true if the signature was found in the standard output or in the standard error
+	 */
+	public synchronized boolean contains(Signature signature) {
+		return outputMatches.contains(signature) || errorMatches.contains(signature);
+	}
+
+	/**
+	 * @param signature Signature to check
+	 * @return true if the signature was found in the standard output
+	 */
+	public synchronized boolean outputContains(Signature signature) {
+		return outputMatches.contains(signature);
+	}
+
+	/**
+	 * @param signature Signature to check
+	 * @return true if the signature was found in the standard error
+	 */
+	public synchronized boolean errorContains(Signature signature) {
+		return errorMatches.contains(signature);
+	}
+
+	/**
+	 * @return Source files reported by Java compiler errors, in the order they were first reported
+	 */
+	public synchronized Set<File> getCompilationErrorFiles() {
+		return new LinkedHashSet<>(compilationErrorFiles);
+	}
+
+	private void scan(String text, Set<Signature> matches) {
+		Set<Signature> lineMatches = EnumSet.noneOf(Signature.class);
+		int lineStart = 0;
+		int state = MATCHER.initialState();
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r') {
+				endLine(text.substring(lineStart, i), lineMatches, matches);
+				lineStart = i + 1;
+				state = MATCHER.initialState();
+				continue;
+			}
+
+			state = MATCHER.nextState(state, c == '\u00a0' ? ' ' : c);
+			if (MATCHER.hasMatches(state)) {
+				int start = lineStart;
+				int end = i + 1;
+				boolean lineEnds = end == text.length() || text.charAt(end) == '\n' || text.charAt(end) == '\r';
+				MATCHER.forEachMatch(state, index -> {
+					Signature signature = SIGNATURES[index];
+					int matchStart = end - MATCHER.getLength(index);
+					if (signature.position == Position.ANYWHERE || (matchStart == start && (
+							signature.position == Position.LINE_START || lineEnds)))
+						lineMatches.add(signature);
+				});
+			}
+		}
+		endLine(text.substring(lineStart), lineMatches, matches);
+	}
+
+	private void endLine(String line, Set<Signature> lineMatches, Set<Signature> matches) {
+		if (lineMatches.isEmpty())
+			return;
+
+		if (lineMatches.contains(Signature.JAVA_FILE) && lineMatches.contains(Signature.COMPILATION_ERROR)) {
+			compilationErrorFiles.add(
+					new File(line.split(":\\d+: error:")[0].replaceAll("build[/|\\\\]sources", "src")));
+		}
+
+		matches.addAll(lineMatches);
+		lineMatches.clear();
+	}
+
+	public enum Signature {
+
+		REOBF_FAILED("Execution failed for task ':reobfJar'", Position.LINE_START),
+		EXECUTION_FAILED("Execution failed for task"),
+		RUN_CLIENT_TASK_FAILED("Task :runClient FAILED"),
+		RUN_CLIENT_EXECUTION_FAILED("Execution failed for task ':runClient'"),
+		COMPILE_JAVA_FAILED("compileJava FAILED"),
+		BUILD_FAILED("BUILD FAILED", Position.LINE_START),
+		BUILD_FAILED_LINE("BUILD FAILED", Position.WHOLE_LINE),
+		RERUN_SUGGESTED("try running the task again."),
+
+		CONNECTION_ABORTED(" Software caused connection abort: "),
+		NETWORK_UNREACHABLE(" Network is unreachable: "),
+		NETWORK_UNREACHABLE_NOTE("Network is unreachable:"),
+		COULD_NOT_GET("Could not GET "),
+		COULD_NOT_HEAD("Could not HEAD "),
+		COULD_NOT_RESOLVE("Could not resolve "),
+		COULD_NOT_RESOLVE_CONFIGURATION("Could not resolve all files for configuration"),
+
+		FILE_NOT_FOUND("java.io.FileNotFoundException"),
+		FILE_NOT_FOUND_MESSAGE("java.io.FileNotFoundException: "),
+		MCP_MAPPINGS_FILE("McpMappings.json ("),
+		REMAPPED_CLASS_CACHE("Could not open proj remapped class cache for "),
+		NO_CACHED_VERSION("No cached version of "),
+		NOT_AVAILABLE_OFFLINE(" available for offline mode."),
+		NOT_FOUND_OFFLINE(" not found! Maybe you are running in offline mode?"),
+		ZIP_FILE_ERROR("java.util.zip.ZipException: error in opening zip file"),
+		MODULE_PROPERTIES_ERROR("UncheckedIOException: Could not load properties for module"),
+
+		HEAP_SPACE("java.lang.OutOfMemoryError: Java heap space"),
+		RESERVE_SPACE_FAILED("Could not reserve enough space for"),
+		GC_OVERHEAD("GC overhead limit exceeded"),
+		TENURED_SPACE_EXHAUSTED("Daemon stopping because JVM tenured space is exhausted"),
+		INVALID_XMX("Invalid maximum heap size:"),
+		INVALID_XMS("Invalid initial heap size:"),
+		XMS_LARGER_THAN_XMX("Initial heap size set to a larger value than the maximum heap size"),
+		JVM_NATIVE_CRASH("The crash happened outside the Java Virtual Machine in native code"),
+		JVM_FATAL_ERROR("A fatal error has been detected by the Java Runtime Environment"),
+
+		JAVA_FILE(".java:"),
+		COMPILATION_ERROR(": error:"),
+		COMPILER_ERROR_OUTPUT_NOTE("see the compiler error output for details");
+
+		private final String text;
+		private final Position position;
+
+		Signature(String text) {
+			this(text, Position.ANYWHERE);
+		}
+
+		Signature(String text, Position position) {
+			this.text = text;
+			this.position = position;
+		}
+
+	}
+
+	private enum Position {
+		ANYWHERE, LINE_START, WHOLE_LINE
+	}
+
+}
@@ -18,6 +18,7 @@
 
 package net.mcreator.gradle;
 
+import net.mcreator.gradle.GradleErrorClassifier.Signature;
 import net.mcreator.preferences.PreferencesManager;
 import net.mcreator.ui.MCreator;
 import net.mcreator.ui.gradle.GradleErrorDialogs;
@@ -27,44 +28,38 @@ public class GradleErrorDecoder {
 	/**
 	 * This method tries to decode task result based on given parameters, returns status code and shows error message if error is detected
 	 *
-	 * @param out         String containing data from out stream
-	 * @param err         String containing data from err stream
+	 * @param errors      Classifier that received the task output from out and err streams
 	 * @param whereToShow Parent window on which to show the error dialog
 	 * @return One of GradleTaskResult status codes, STATUS_UNKNOWN if GradleErrorDecoder can't decide the type of error
 	 */
-	public static int processErrorAndShowMessage(String out, String err, MCreator whereToShow) {
-		// normalize spaces
-		out = out.replace('\u00a0', ' ');
-		err = err.replace('\u00a0', ' ');
-
-		if (err.contains("\nExecution failed for task ':reobfJar'")) {
+	public static int processErrorAndShowMessage(GradleErrorClassifier errors, MCreator whereToShow) {
+		if (errors.errorContains(Signature.REOBF_FAILED)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_REOBF_FAILED, whereToShow);
 		}
 
 		//check if there is no internet or the connection is blocked by a firewall
-		if (err.contains(" Software caused connection abort: ") && out.contains("\nBUILD FAILED\n")) {
+		if (errors.errorContains(Signature.CONNECTION_ABORTED) && errors.outputContains(Signature.BUILD_FAILED_LINE)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_INTERNET_INTERRUPTED, whereToShow);
 		}
 
 		//check if there is no internet or the connection is blocked by a firewall
-		if ((err.contains("Could not GET ") && err.contains("Could not resolve ")) || (
-				err.contains(" Network is unreachable: ") && err.contains("Could not resolve ")) || (
-				err.contains("Could not HEAD ") && err.contains("Could not resolve "))) {
-
+		if (errors.errorContains(Signature.COULD_NOT_RESOLVE) && (errors.errorContains(Signature.COULD_NOT_GET)
+				|| errors.errorContains(Signature.NETWORK_UNREACHABLE) || errors.errorContains(
+				Signature.COULD_NOT_HEAD))) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_NO_INTERNET, whereToShow);
 		}
 
 		//Check if cache files are corrupt
-		if ((err.contains("java.io.FileNotFoundException: ") && err.contains("McpMappings.json (")) || (
-				err.contains("Could not open proj remapped class cache for ") && err.contains(
-						"java.io.FileNotFoundException: "))) {
+		if ((errors.errorContains(Signature.FILE_NOT_FOUND_MESSAGE) && errors.errorContains(
+				Signature.MCP_MAPPINGS_FILE)) || (errors.errorContains(Signature.REMAPPED_CLASS_CACHE)
+				&& errors.errorContains(Signature.FILE_NOT_FOUND_MESSAGE))) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_CACHEDATA_ERROR, whereToShow);
 		}
 
 		//Check if cache files are outdated
-		if ((err.contains("No cached version of ") && err.contains(" available for offline mode.")) || (
-				err.contains(" not found! Maybe you are running in offline mode?") && err.contains(
-						"java.io.FileNotFoundException"))) {
+		if ((errors.errorContains(Signature.NO_CACHED_VERSION) && errors.errorContains(
+				Signature.NOT_AVAILABLE_OFFLINE)) || (errors.errorContains(Signature.NOT_FOUND_OFFLINE)
+				&& errors.errorContains(Signature.FILE_NOT_FOUND))) {
 			if (PreferencesManager.PREFERENCES.gradle.offline.get())
 				return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_CACHEDATA_OUTDATED, whereToShow);
 			else
@@ -72,42 +67,35 @@ public class GradleErrorDecoder {
 		}
 
 		//Check if JVM ran out of RAM
-		if (err.contains("java.lang.OutOfMemoryError: Java heap space") || out.contains(
-				"java.lang.OutOfMemoryError: Java heap space") || err.contains("Could not reserve enough space for")
-				|| out.contains("Could not reserve enough space for") || err.contains("GC overhead limit exceeded") || (
-				err.contains("Execution failed for task") && out.contains(
-						"Daemon stopping because JVM tenured space is exhausted"))) {
+		if (errors.contains(Signature.HEAP_SPACE) || errors.contains(Signature.RESERVE_SPACE_FAILED)
+				|| errors.errorContains(Signature.GC_OVERHEAD) || (errors.errorContains(Signature.EXECUTION_FAILED)
+				&& errors.outputContains(Signature.TENURED_SPACE_EXHAUSTED))) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.JAVA_JVM_HEAP_SPACE, whereToShow);
 		}
 
 		//Check if XMX parameter was set to a wrong value
-		if (err.contains("Invalid maximum heap size:")) {
+		if (errors.errorContains(Signature.INVALID_XMX)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.JAVA_XMX_INVALID_VALUE, whereToShow);
 		}
 
 		//Check if XMS parameter was set to a wrong value
-		if (err.contains("Invalid initial heap size:") || err.contains(
-				"Initial heap size set to a larger value than the maximum heap size")) {
+		if (errors.errorContains(Signature.INVALID_XMS) || errors.errorContains(Signature.XMS_LARGER_THAN_XMX)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.JAVA_XMS_INVALID_VALUE, whereToShow);
 		}
 
 		//check if the error was caused by JVM crash and no other errors are present
-		if ((out.contains("The crash happened outside the Java Virtual Machine in native code") || err.contains(
-				"The crash happened outside the Java Virtual Machine in native code")) && (
-				out.contains("A fatal error has been detected by the Java Runtime Environment") || err.contains(
-						"A fatal error has been detected by the Java Runtime Environment"))) {
-
+		if (errors.contains(Signature.JVM_NATIVE_CRASH) && errors.contains(Signature.JVM_FATAL_ERROR)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.JAVA_JVM_CRASH_ERROR, whereToShow);
-
 		}
 
 		// check if the gameplay crashed, we do not do anything in such cases
-		if (out.contains("Task :runClient FAILED") || out.contains("Execution failed for task ':runClient'")) {
+		if (errors.outputContains(Signature.RUN_CLIENT_TASK_FAILED) || errors.outputContains(
+				Signature.RUN_CLIENT_EXECUTION_FAILED)) {
 			return GradleErrorCodes.JAVA_RUN_CRASHED;
 		}
 
 		//if we don't know why, but the build fails, we report GRADLE_BUILD_FAILED
-		if (out.contains("\nBUILD FAILED")) {
+		if (errors.outputContains(Signature.BUILD_FAILED)) {
 			return GradleErrorDialogs.showErrorDialog(GradleErrorCodes.GRADLE_BUILD_FAILED, whereToShow);
 		}
 
@@ -115,26 +103,22 @@ public class GradleErrorDecoder {
 		return GradleErrorCodes.STATUS_OK;
 	}
 
-	public static boolean isErrorCausedByCorruptedCaches(String errortext) {
-		// normalize spaces
-		errortext = errortext.replace('\u00a0', ' ');
-		if (!errortext.contains("Could not GET ") && !errortext.contains("Could not HEAD ") && !errortext.contains(
-				"Network is unreachable:")) { // eliminate networking problems first
-			if (errortext.contains("java.util.zip.ZipException: error in opening zip file")) {
+	public static boolean isErrorCausedByCorruptedCaches(GradleErrorClassifier errors) {
+		if (!errors.contains(Signature.COULD_NOT_GET) && !errors.contains(Signature.COULD_NOT_HEAD) && !errors.contains(
+				Signature.NETWORK_UNREACHABLE_NOTE)) { // eliminate networking problems first
+			if (errors.contains(Signature.ZIP_FILE_ERROR)) {
 				return true;
 			}
-			if (errortext.contains("UncheckedIOException: Could not load properties for module")) {
+			if (errors.contains(Signature.MODULE_PROPERTIES_ERROR)) {
 				return true;
 			}
-			return errortext.contains("Could not resolve all files for configuration");
+			return errors.contains(Signature.COULD_NOT_RESOLVE_CONFIGURATION);
 		}
 		return false;
 	}
 
-	public static boolean doesErrorSuggestRerun(String errortext) {
-		// normalize spaces
-		errortext = errortext.replace('\u00a0', ' ');
-		return errortext.contains("try running the task again.");
+	public static boolean doesErrorSuggestRerun(GradleErrorClassifier errors) {
+		return errors.contains(Signature.RERUN_SUGGESTED);
 	}
 
 }
@@ -31,6 +31,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -103,6 +104,49 @@ public final class FileIO {
 		}
 	}
 
+	/**
+	 * Writes the string to the file only if the file does not exist yet or its contents are different. This way, the
+	 * modification time of unchanged files is preserved and incremental builds do not consider them changed.
+	 *
+	 * @param c String to write
+	 * @param f File to write the string to
+	 * @return true if the file was written, false if the file already had the same contents
+	 */
+	public static boolean writeStringToFileIfChanged(String c, File f) {
+		byte[] bytes = c.getBytes(StandardCharsets.UTF_8);
+		if (hasSameContents(bytes, f))
+			return false;
+
+		writeBytesToFile(bytes, f);
+		return true;
+	}
+
+	/**
+	 * Compares file lengths first and only streams the file contents if the lengths match.
+	 *
+	 * @param contents Contents to compare the file with
+	 * @param f        File to compare
+	 * @return true if the file exists and has exactly the given contents
+	 */
+	public static boolean hasSameContents(byte[] contents, File f) {
+		if (!f.isFile() || f.length() != contents.length)
+			return false;
+
+		try (InputStream is = new FileInputStream(f)) {
+			byte[] buffer = new byte[8192];
+			int offset = 0, read;
+			while ((read = is.read(buffer)) != -1) {
+				if (offset + read > contents.length || !Arrays.equals(buffer, 0, read, contents, offset,
+						offset + read))
+					return false;
+				offset += read;
+			}
+			return offset == contents.length;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	public static void writeBytesToFile(byte[] c, File f) {
 		File parentDir = f.getAbsoluteFile().getParentFile();
 		if (parentDir != null && !parentDir.isDirectory())
@@ -196,6 +240,9 @@ public final class FileIO {
 		}
 	}
 
+	/**
+	 * For repeated checks against the same list of files, use {@link FileSet} instead.
+	 */
 	public static boolean isFileOnFileList(List<File> fileList, File file) {
 		if (!file.exists())
 			return false;
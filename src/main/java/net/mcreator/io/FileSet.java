@@ -0,0 +1,91 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Set of files to check if a file is one of them, matching files the same way as
+ * {@link FileIO#isFileOnFileList(List, File)}, but without comparing the file with each file of the set.
+ * <p>
+ * Files are matched by their normalized absolute path first. Only if there is no such path, files with the same name
+ * are compared through the file system, so the same file reached through a different path (e.g. a link) still
+ * matches.
+ * <p>
+ * Files can be added and checked from multiple threads.
+ */
+public final class FileSet {
+
+	private final Set<Path> paths = new HashSet<>();
+	private final Map<String, List<Path>> pathsByName = new HashMap<>();
+
+	public FileSet() {
+	}
+
+	public FileSet(Collection<File> files) {
+		files.forEach(this::add);
+	}
+
+	public synchronized void add(File file) {
+		Path path = normalize(file);
+		if (paths.add(path))
+			pathsByName.computeIfAbsent(file.getName(), key -> new ArrayList<>(1)).add(path);
+	}
+
+	/**
+	 * @param file File to check
+	 * @return true if the file exists and is one of the files of this set
+	 */
+	public boolean contains(File file) {
+		List<Path> candidates;
+		Path path = normalize(file);
+		synchronized (this) {
+			if (paths.contains(path))
+				return file.exists();
+
+			List<Path> sameName = pathsByName.get(file.getName());
+			if (sameName == null)
+				return false;
+			candidates = List.copyOf(sameName);
+		}
+
+		if (!file.exists())
+			return false;
+
+		for (Path candidate : candidates) {
+			try {
+				if (Files.isSameFile(path, candidate))
+					return true;
+			} catch (IOException ignored) {
+			}
+		}
+
+		return false;
+	}
+
+	public static Path normalize(File file) {
+		return file.toPath().toAbsolutePath().normalize();
+	}
+
+}
@@ -19,6 +19,7 @@
 package net.mcreator.io.writer;
 
 import net.mcreator.io.FileIO;
+import net.mcreator.io.FileSet;
 import net.mcreator.java.CodeCleanup;
 import net.mcreator.workspace.Workspace;
 import org.apache.commons.io.FilenameUtils;
@@ -39,39 +40,66 @@ public class ClassWriter {
 
 	public static void writeClassToFile(@Nullable Workspace workspace, String code, File file,
 			boolean formatAndOrganiseImports) {
+		writeClassToFile(workspace, code, file, formatAndOrganiseImports, null);
+	}
+
+	/**
+	 * @param writtenFiles If not null, the file is added to this set, even if it was not written because its contents
+	 *                     did not change
+	 */
+	public static void writeClassToFile(@Nullable Workspace workspace, String code, File file,
+			boolean formatAndOrganiseImports, @Nullable FileSet writtenFiles) {
 		if (formatAndOrganiseImports) {
-			FileIO.writeStringToFile(codeCleanup.reformatTheCodeAndOrganiseImports(workspace, code), file);
+			FileIO.writeStringToFileIfChanged(codeCleanup.reformatTheCodeAndOrganiseImports(workspace, code), file);
 		} else {
-			FileIO.writeStringToFile(code, file);
+			FileIO.writeStringToFileIfChanged(code, file);
 		}
+
+		if (writtenFiles != null)
+			writtenFiles.add(file);
 	}
 
-	public static void batchWriteClassToFile(@Nullable Workspace workspace, @Nonnull Map<File, String> codes,
-			boolean formatAndOrganiseImports, @Nullable IntConsumer intConsumer) {
+	/**
+	 * Files that already contain the same code are not written again.
+	 *
+	 * @param writtenFiles If not null, all files are added to this set, including the files that were not written
+	 * @return number of files that were not written because their contents did not change
+	 */
+	public static int batchWriteClassToFile(@Nullable Workspace workspace, @Nonnull Map<File, String> codes,
+			boolean formatAndOrganiseImports, @Nullable IntConsumer intConsumer, @Nullable FileSet writtenFiles) {
+		Map<File, String> outputCodes;
 		if (formatAndOrganiseImports) {
-			// reload mod classes by "dummy" formatting the first element
-			codes.values().stream().findFirst()
-					.ifPresent(code -> codeCleanup.reformatTheCodeAndOrganiseImports(workspace, code, false));
+			// update the import index with the current mod classes once, formatting below then only reads it
+			codeCleanup.refreshImportIndex(workspace);
 
 			AtomicInteger counter = new AtomicInteger();
-			Map<File, String> formattedCodes = codes.keySet().parallelStream().peek(file -> {
+			outputCodes = codes.keySet().parallelStream().peek(file -> {
 				if (intConsumer != null)
 					intConsumer.accept(counter.incrementAndGet());
 			}).filter(codes::containsKey).collect(Collectors.toMap(file -> file,
 					file -> codeCleanup.reformatTheCodeAndOrganiseImports(workspace, codes.get(file), true)));
-
-			formattedCodes.forEach((file, code) -> FileIO.writeStringToFile(code, file));
 		} else {
-			codes.forEach((key, value) -> FileIO.writeStringToFile(value, key));
+			outputCodes = codes;
 		}
+
+		int unchangedFiles = (int) outputCodes.entrySet().parallelStream()
+				.filter(entry -> !FileIO.writeStringToFileIfChanged(entry.getValue(), entry.getKey())).count();
+
+		if (writtenFiles != null)
+			outputCodes.keySet().forEach(writtenFiles::add);
+
+		return unchangedFiles;
 	}
 
-	public static void formatAndOrganiseImportsForFiles(@Nullable Workspace workspace, @Nonnull Collection<File> files,
+	/**
+	 * @return number of files that were not written because their contents did not change
+	 */
+	public static int formatAndOrganiseImportsForFiles(@Nullable Workspace workspace, @Nonnull Collection<File> files,
 			@Nullable IntConsumer intConsumer) {
 		Map<File, String> codes = files.parallelStream()
 				.filter(file -> FilenameUtils.isExtension(file.getName().toLowerCase(Locale.ENGLISH), "java"))
 				.collect(Collectors.toMap(file -> file, FileIO::readFileToString));
-		batchWriteClassToFile(workspace, codes, true, intConsumer);
+		return batchWriteClassToFile(workspace, codes, true, intConsumer, null);
 	}
 
 }
@@ -35,7 +35,7 @@ public class JSONWriter {
 	public static final Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
 
 	public static void writeJSONToFile(String srcjson, File file) {
-		FileIO.writeStringToFile(formatJSON(srcjson), file);
+		FileIO.writeStringToFileIfChanged(formatJSON(srcjson), file);
 	}
 
 	public static String formatJSON(String srcjson) {
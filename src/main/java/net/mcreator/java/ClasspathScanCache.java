@@ -0,0 +1,162 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.io.UserFolderManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores the list of importable classes of each scanned library (JAR or JMOD) in the user folder, so libraries shared
+ * between workspaces are only scanned once.
+ * <p>
+ * Entries are keyed by the library path, size and modification time. Libraries from the Gradle cache are stored
+ * in folders named by their checksum, so their path already identifies their contents. Each entry also stores its
+ * library key, so entries of libraries that were deleted or changed can be pruned.
+ */
+final class ClasspathScanCache {
+
+	private static final Logger LOG = LogManager.getLogger("Classpath Scan Cache");
+
+	private static final int MAGIC = 0x4D435343; // MCSC
+	private static final int FORMAT_VERSION = 2;
+
+	private static final long TEMP_FILE_EXPIRY = TimeUnit.HOURS.toMillis(1);
+
+	private ClasspathScanCache() {}
+
+	/**
+	 * @param libraryFile Library to load the cached scan result for
+	 * @return List of fully qualified names of importable classes of the library or null if the library was not
+	 * scanned yet or its scan result could not be loaded
+	 */
+	@Nullable static List<String> load(File libraryFile) {
+		File cacheFile = getCacheFile(libraryFile);
+		if (!cacheFile.isFile())
+			return null;
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+				return null;
+
+			in.readUTF(); // library path
+			in.readLong(); // library size
+			in.readLong(); // library modification time
+
+			int count = in.readInt();
+			List<String> classes = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+				classes.add(in.readUTF());
+			return classes;
+		} catch (IOException e) {
+			LOG.warn("Failed to load scan cache of " + libraryFile + ", library will be scanned again", e);
+			return null;
+		}
+	}
+
+	static void store(File libraryFile, List<String> classes) {
+		File cacheFile = getCacheFile(libraryFile);
+		File tempFile = new File(cacheFile.getParentFile(), cacheFile.getName() + "." + Thread.currentThread().getId());
+		tempFile.getParentFile().mkdirs();
+
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(libraryFile.getAbsolutePath());
+				out.writeLong(libraryFile.length());
+				out.writeLong(libraryFile.lastModified());
+				out.writeInt(classes.size());
+				for (String fqdn : classes)
+					out.writeUTF(fqdn);
+			}
+
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOG.warn("Failed to store scan cache of " + libraryFile, e);
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Deletes entries of libraries that no longer exist or changed since they were scanned, entries of older formats
+	 * and temporary files left by interrupted writes
+	 */
+	static void prune() {
+		File[] files = UserFolderManager.getFileFromUserFolder("cache/classscan/").listFiles();
+		if (files == null)
+			return;
+
+		int pruned = 0;
+		for (File file : files) {
+			boolean stale;
+			if (file.getName().endsWith(".bin")) {
+				stale = !isEntryValid(file);
+			} else { // temporary file
+				stale = System.currentTimeMillis() - file.lastModified() > TEMP_FILE_EXPIRY;
+			}
+
+			if (stale && file.delete())
+				pruned++;
+		}
+
+		if (pruned > 0)
+			LOG.debug("Pruned " + pruned + " entries of the classpath scan cache");
+	}
+
+	private static boolean isEntryValid(File cacheFile) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+				return false;
+
+			File libraryFile = new File(in.readUTF());
+			return libraryFile.isFile() && libraryFile.length() == in.readLong()
+					&& libraryFile.lastModified() == in.readLong();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static File getCacheFile(File libraryFile) {
+		String key = libraryFile.getAbsolutePath() + ";" + libraryFile.length() + ";" + libraryFile.lastModified();
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			key = HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			key = Integer.toHexString(key.hashCode());
+		}
+
+		return UserFolderManager.getFileFromUserFolder("cache/classscan/" + key + ".bin");
+	}
+
+}
@@ -27,21 +27,37 @@
 
 package net.mcreator.java;
 
+import net.mcreator.Launcher;
 import net.mcreator.workspace.Workspace;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster._shade.org.eclipse.jdt.core.ToolFactory;
+import org.jboss.forge.roaster._shade.org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.jboss.forge.roaster._shade.org.eclipse.jface.text.BadLocationException;
+import org.jboss.forge.roaster._shade.org.eclipse.jface.text.Document;
+import org.jboss.forge.roaster._shade.org.eclipse.text.edits.TextEdit;
 
 import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 public class CodeCleanup {
 
 	private static final Logger LOG = LogManager.getLogger(CodeCleanup.class);
 
+	// increase when formatting or import arrangement changes, so previously cached results are not used
+	private static final int FORMATTED_CODE_CACHE_VERSION = 1;
+
 	private final Properties formatPorperties;
 	private final ImportFormat importFormat;
 
+	private final String formatterSettingsKey;
+
+	// JDT formatters are not thread-safe, but creating one from the options is expensive, so each thread reuses its own
+	private final ThreadLocal<CodeFormatter> codeFormatter;
+
 	public CodeCleanup() {
 		formatPorperties = new Properties();
 		formatPorperties.setProperty("org.eclipse.jdt.core.compiler.source", "17");
@@ -64,6 +80,18 @@ public class CodeCleanup {
 		formatPorperties.setProperty("org.eclipse.jdt.core.formatter.comment.format_line_comments", "false");
 
 		importFormat = new ImportFormat();
+
+		// generator import formatter configuration is bundled with the application, so its version is part of the key
+		formatterSettingsKey = FORMATTED_CODE_CACHE_VERSION + ":" + (Launcher.version != null ?
+				Launcher.version.getFullString() :
+				"") + ":" + new TreeMap<>(formatPorperties);
+
+		// Roaster bundles a relocated JDT that reads options with the relocated package prefix
+		String shadePrefix = ToolFactory.class.getPackageName().replace("org.eclipse.jdt.core", "");
+		Map<String, String> formatterOptions = new HashMap<>();
+		formatPorperties.forEach((key, value) -> formatterOptions.put(
+				key.toString().startsWith("org.eclipse.jdt") ? shadePrefix + key : key.toString(), value.toString()));
+		codeFormatter = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(formatterOptions));
 	}
 
 	public String reformatTheCodeAndOrganiseImports(@Nullable Workspace workspace, String code) {
@@ -73,21 +101,70 @@ public class CodeCleanup {
 	public String reformatTheCodeAndOrganiseImports(@Nullable Workspace workspace, String code,
 			boolean skipModClassReloading) {
 		try {
-			return Roaster.format(formatPorperties,
-					importFormat.arrangeImports(workspace, code, skipModClassReloading));
+			ImportIndex importIndex = importFormat.getImportIndex(workspace, skipModClassReloading);
+
+			// formatted code only depends on the code, importable classes and settings, so it can be reused
+			FormattedCodeCache cache = null;
+			if (workspace != null && importIndex != null) {
+				cache = new FormattedCodeCache(workspace,
+						formatterSettingsKey + ":" + importIndex.getVersion() + ":" + workspace.getGeneratorConfiguration()
+								.getGeneratorName() + ":" + workspace.getWorkspaceSettings().getModElementsPackage());
+				String cached = cache.get(code);
+				if (cached != null)
+					return cached;
+			}
+
+			String formatted = format(importFormat.arrangeImports(workspace, importIndex, code));
+
+			if (cache != null)
+				cache.put(code, formatted);
+
+			return formatted;
 		} catch (Exception e) {
 			LOG.error("Failed to format code and organize imports", e);
 			return code;
 		}
 	}
 
+	/**
+	 * Updates the import index with the current mod classes, so code can then be formatted from multiple threads
+	 * with skipModClassReloading set to true.
+	 *
+	 * @param workspace Workspace to update the import index for
+	 */
+	public void refreshImportIndex(@Nullable Workspace workspace) {
+		importFormat.refreshImportIndex(workspace);
+	}
+
 	public String reformatTheCodeOnly(String code) {
 		try {
-			return Roaster.format(formatPorperties, code);
+			return format(code);
 		} catch (Exception e) {
 			LOG.error("Failed to format code", e);
 			return code;
 		}
 	}
 
+	/**
+	 * Formats the code with the formatter of the current thread. Same as Roaster.format, but without creating a new
+	 * formatter for each call.
+	 */
+	private String format(String code) throws BadLocationException {
+		TextEdit edit = codeFormatter.get()
+				.format(CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS, code, 0, code.length(), 0,
+						null);
+		if (edit == null)
+			return code;
+
+		Document document = new Document(code);
+		edit.apply(document);
+		String formatted = document.get();
+
+		// match line separators of Roaster formatter output
+		String lineSeparator = System.lineSeparator();
+		if (lineSeparator.length() > 1 && !formatted.contains(lineSeparator) && formatted.indexOf('\n') >= 0)
+			return formatted.replace("\n", lineSeparator);
+		return formatted;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.workspace.Workspace;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores formatted code with organised imports in the workspace cache folder, keyed by the hash of the unformatted
+ * code, the classes that can be imported and the formatter settings. Generated code that did not change since it
+ * was last formatted is then not formatted again.
+ * <p>
+ * Entries that were not used for {@link #MAX_ENTRY_AGE} are removed when the cache of a workspace is first used.
+ */
+final class FormattedCodeCache {
+
+	private static final Logger LOG = LogManager.getLogger("Formatted Code Cache");
+
+	private static final long MAX_ENTRY_AGE = TimeUnit.DAYS.toMillis(30);
+
+	// entry modification time is updated on use at most this often, to keep track of unused entries
+	private static final long TOUCH_INTERVAL = TimeUnit.DAYS.toMillis(1);
+
+	private static final Set<File> prunedCacheDirs = ConcurrentHashMap.newKeySet();
+
+	private final File cacheDir;
+	private final String settingsKey;
+
+	/**
+	 * @param workspace   Workspace to store formatted code for
+	 * @param settingsKey Key identifying the formatter settings and the import index the code is formatted with
+	 */
+	FormattedCodeCache(Workspace workspace, String settingsKey) {
+		this.cacheDir = new File(workspace.getFolderManager().getWorkspaceCacheDir(), "formattedCode");
+		this.settingsKey = settingsKey;
+
+		if (prunedCacheDirs.add(cacheDir))
+			pruneOldEntries();
+	}
+
+	@Nullable String get(String code) {
+		File entry = getEntryFile(code);
+		if (!entry.isFile())
+			return null;
+
+		try {
+			String formatted = Files.readString(entry.toPath(), StandardCharsets.UTF_8);
+
+			long now = System.currentTimeMillis();
+			if (now - entry.lastModified() > TOUCH_INTERVAL)
+				entry.setLastModified(now);
+
+			return formatted;
+		} catch (IOException e) {
+			LOG.warn("Failed to read formatted code cache entry " + entry, e);
+			return null;
+		}
+	}
+
+	void put(String code, String formatted) {
+		File entry = getEntryFile(code);
+		File tempFile = new File(cacheDir, entry.getName() + "." + Thread.currentThread().getId());
+		try {
+			cacheDir.mkdirs();
+			Files.writeString(tempFile.toPath(), formatted, StandardCharsets.UTF_8);
+			Files.move(tempFile.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOG.warn("Failed to store formatted code cache entry " + entry, e);
+			tempFile.delete();
+		}
+	}
+
+	private File getEntryFile(String code) {
+		String key;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(settingsKey.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(code.getBytes(StandardCharsets.UTF_8));
+			key = HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			key = Integer.toHexString(settingsKey.hashCode()) + Integer.toHexString(code.hashCode());
+		}
+		return new File(cacheDir, key);
+	}
+
+	private void pruneOldEntries() {
+		File[] entries = cacheDir.listFiles();
+		if (entries == null)
+			return;
+
+		long now = System.currentTimeMillis();
+		int pruned = 0;
+		for (File entry : entries) {
+			if (now - entry.lastModified() > MAX_ENTRY_AGE && entry.delete())
+				pruned++;
+		}
+
+		if (pruned > 0)
+			LOG.debug("Removed " + pruned + " unused formatted code cache entries");
+	}
+
+}
@@ -18,6 +18,8 @@
 
 package net.mcreator.java;
 
+import net.mcreator.generator.Generator;
+import net.mcreator.generator.GeneratorGradleCache;
 import net.mcreator.workspace.Workspace;
 import org.fife.rsta.ac.java.rjc.ast.CompilationUnit;
 import org.fife.rsta.ac.java.rjc.ast.ImportDeclaration;
@@ -25,6 +27,7 @@ import org.fife.rsta.ac.java.rjc.lexer.Scanner;
 import org.fife.rsta.ac.java.rjc.parser.ASTFactory;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.io.StringReader;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -32,7 +35,9 @@ import java.util.stream.Collectors;
 
 public class ImportFormat {
 
-	private final Map<String, List<String>> cache = new HashMap<>();
+	@Nullable private volatile ImportIndex importIndex = null;
+
+	@Nullable private ModClassScanner modClassScanner = null;
 
 	public static String removeImports(String code, String replacement) {
 		CompilationUnit cu = new ASTFactory().getCompilationUnit("", new Scanner(new StringReader(code)));
@@ -71,14 +76,62 @@ public class ImportFormat {
 		return before.trim() + replacement + after.trim();
 	}
 
+	/**
+	 * Updates the import index with the current classes of the mod sources. Only changed source directories are
+	 * scanned again. The index is replaced atomically, so other threads can keep using the previous snapshot.
+	 *
+	 * @param workspace Workspace to update the index for
+	 * @return Updated import index or null if the workspace has no Gradle cache yet
+	 */
+	@Nullable public synchronized ImportIndex refreshImportIndex(@Nullable Workspace workspace) {
+		if (workspace == null || workspace.getGenerator().getGradleCache() == null)
+			return null;
+
+		Generator generator = workspace.getGenerator();
+		GeneratorGradleCache gradleCache = generator.getGradleCache();
+
+		File sourceRoot = generator.getSourceRoot();
+		if (modClassScanner == null || !modClassScanner.getRoot().equals(sourceRoot))
+			modClassScanner = new ModClassScanner(sourceRoot);
+
+		ImportIndex current = importIndex;
+		if (current != null && current.isFor(generator, gradleCache.getImportTree())) {
+			current = current.withModClasses(modClassScanner.scan());
+		} else {
+			current = new ImportIndex(generator, gradleCache.getImportTree(), modClassScanner.scan());
+		}
+
+		importIndex = current;
+		return current;
+	}
+
+	/**
+	 * @param workspace             Workspace to get the import index for
+	 * @param skipModClassReloading true if the current index should be used without scanning the mod classes again
+	 * @return Import index to arrange imports with or null if the workspace has no Gradle cache yet
+	 */
+	@Nullable ImportIndex getImportIndex(@Nullable Workspace workspace, boolean skipModClassReloading) {
+		return skipModClassReloading ? getImportIndex(workspace) : refreshImportIndex(workspace);
+	}
+
+	@Nullable private ImportIndex getImportIndex(@Nullable Workspace workspace) {
+		if (workspace == null || workspace.getGenerator().getGradleCache() == null)
+			return null;
+
+		ImportIndex current = importIndex;
+		if (current != null && current.isFor(workspace.getGenerator(),
+				workspace.getGenerator().getGradleCache().getImportTree()))
+			return current;
+
+		return refreshImportIndex(workspace);
+	}
+
 	public String arrangeImports(@Nullable Workspace workspace, String code, boolean skipModClassReloading) {
-		if (workspace != null && workspace.getGenerator().getGradleCache() != null) {
-			if (!skipModClassReloading) {
-				cache.clear();
-				cache.putAll(workspace.getGenerator().getGradleCache().getImportTree());
-				ImportTreeBuilder.reloadClassesFromMod(workspace.getGenerator(), cache);
-			}
+		return arrangeImports(workspace, getImportIndex(workspace, skipModClassReloading), code);
+	}
 
+	String arrangeImports(@Nullable Workspace workspace, @Nullable ImportIndex index, String code) {
+		if (index != null) {
 			CompilationUnit cu = new ASTFactory().getCompilationUnit("", new Scanner(new StringReader(code)));
 
 			Set<String> imports = new HashSet<>();
@@ -121,7 +174,7 @@ public class ImportFormat {
 			Set<String> memberList = JavaMemberExtractor.getMemberList(before + after);
 
 			// get list of import candidates
-			Set<String> importsToAdd = getUsedWildcardImports(memberList, cache);
+			Set<String> importsToAdd = getUsedWildcardImports(memberList, index);
 			importsToAdd.addAll(getUsedImports(memberList, imports));
 
 			// then clean up imports that are not needed and resolve duplicates
@@ -276,9 +329,9 @@ public class ImportFormat {
 		return retCode.toString();
 	}
 
-	private Set<String> getUsedWildcardImports(Set<String> memberList, Map<String, List<String>> loadFrom) {
-		return memberList.parallelStream().filter(loadFrom::containsKey)
-				.flatMap(member -> loadFrom.get(member).stream()).collect(Collectors.toSet());
+	private Set<String> getUsedWildcardImports(Set<String> memberList, ImportIndex loadFrom) {
+		return memberList.parallelStream().map(loadFrom::getClassCandidates).filter(Objects::nonNull)
+				.flatMap(List::stream).collect(Collectors.toSet());
 	}
 
 	private Set<String> getUsedImports(Set<String> memberList, Set<String> normalImports) {
@@ -0,0 +1,110 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.generator.Generator;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of classes that can be imported in the workspace code: classes from the project classpath
+ * (import tree of the Gradle cache) and classes from the mod sources. Snapshot can be read from multiple threads.
+ */
+public final class ImportIndex {
+
+	private final Generator generator;
+	private final Map<String, List<String>> classpathClasses;
+	private final Map<String, List<String>> modClasses;
+
+	@Nullable private volatile String version = null;
+
+	ImportIndex(Generator generator, Map<String, List<String>> classpathClasses,
+			Map<String, List<String>> modClasses) {
+		this.generator = generator;
+		this.classpathClasses = classpathClasses;
+		this.modClasses = modClasses;
+	}
+
+	/**
+	 * @param className Simple name of the class
+	 * @return List of fully qualified names of classes with the given simple name or null if there are none
+	 */
+	@Nullable public List<String> getClassCandidates(String className) {
+		List<String> fromClasspath = classpathClasses.get(className);
+		List<String> fromMod = modClasses.get(className);
+
+		if (fromMod == null)
+			return fromClasspath;
+		if (fromClasspath == null)
+			return fromMod;
+
+		List<String> retval = new ArrayList<>(fromClasspath.size() + fromMod.size());
+		retval.addAll(fromClasspath);
+		retval.addAll(fromMod);
+		return retval;
+	}
+
+	/**
+	 * @return Identifier of the classes in this snapshot, equal for snapshots with the same importable classes
+	 */
+	String getVersion() {
+		String current = version;
+		if (current == null) {
+			String classpathVersion = classpathClasses instanceof ImportTreeIndex importTreeIndex ?
+					importTreeIndex.getVersion() :
+					Integer.toHexString(classpathClasses.hashCode());
+
+			String modClassesVersion;
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				for (Map.Entry<String, List<String>> entry : new TreeMap<>(modClasses).entrySet()) {
+					for (String fqdn : entry.getValue()) {
+						digest.update(fqdn.getBytes(StandardCharsets.UTF_8));
+						digest.update((byte) 0);
+					}
+				}
+				modClassesVersion = HexFormat.of().formatHex(digest.digest());
+			} catch (NoSuchAlgorithmException e) {
+				modClassesVersion = Integer.toHexString(modClasses.hashCode());
+			}
+
+			current = classpathVersion + ":" + modClassesVersion;
+			version = current;
+		}
+		return current;
+	}
+
+	boolean isFor(Generator generator, Map<String, List<String>> classpathClasses) {
+		return this.generator == generator && this.classpathClasses == classpathClasses;
+	}
+
+	ImportIndex withModClasses(Map<String, List<String>> modClasses) {
+		return new ImportIndex(generator, classpathClasses, modClasses);
+	}
+
+}
@@ -20,18 +20,17 @@ package net.mcreator.java;
 
 import javassist.bytecode.AccessFlag;
 import javassist.bytecode.ConstPool;
-import net.mcreator.generator.Generator;
 import net.mcreator.io.zip.ZipIO;
-import net.mcreator.util.FilenameUtilsPatched;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.fife.rsta.ac.java.buildpath.LibraryInfo;
 
+import javax.annotation.Nullable;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -40,101 +39,118 @@ public class ImportTreeBuilder {
 	private static final Logger LOG = LogManager.getLogger("Import Tree Builder");
 
 	public static Map<String, List<String>> generateImportTree(ProjectJarManager projectJarManager) {
-		Map<String, List<String>> retval = new ConcurrentHashMap<>();
 		List<LibraryInfo> libraryInfos = projectJarManager.getClassFileSources();
-		libraryInfos.parallelStream().forEach(libraryInfo -> {
+
+		// classes of each library are loaded from the scan cache, only libraries not scanned before are scanned
+		AtomicInteger scanned = new AtomicInteger();
+		List<List<String>> libraryClasses = libraryInfos.parallelStream().<List<String>>map(libraryInfo -> {
 			File libraryFile = new File(libraryInfo.getLocationAsString());
-			if (libraryFile.isFile() && (ZipIO.checkIfZip(libraryFile) || ZipIO.checkIfJMod(libraryFile))) {
-				try (ZipFile zipFile = ZipIO.openZipFile(libraryFile)) {
-					Enumeration<? extends ZipEntry> entries = zipFile.entries();
-					boolean isJmod = libraryFile.getName().endsWith(".jmod");
-					while (entries.hasMoreElements()) {
-						ZipEntry entry = entries.nextElement();
-						String entryName = entry.getName();
-
-						if (isJmod) {
-							if (!entryName.startsWith("classes/"))
-								continue;
-							entryName = entryName.substring(8);
-						}
-
-						// only load classes that are not inner
-						if (!entryName.endsWith(".class") || entryName.contains("$"))
-							continue;
-
-						// skip internal JDK APIs
-						if (entryName.startsWith("jdk/internal/"))
-							continue;
-
-						// skip Sun APIs
-						if (entryName.startsWith("sun/") || entryName.startsWith("com/sun/"))
-							continue;
-
-						// skip package and modules info entries
-						if (entryName.endsWith("package-info.class") || entryName.endsWith("module-info.class"))
-							continue;
-
-						// skip some libraries
-						if (entryName.startsWith("org/antlr"))
-							continue;
-
-						// skip all meta-info paths
-						if (entryName.startsWith("META-INF/"))
-							continue;
-
-						// check if class is public or protected
-						try {
-							DataInputStream dis = new DataInputStream(zipFile.getInputStream(entry));
-							int magic = dis.readInt(); // check magic number
-							if (magic != 0xCAFEBABE)
-								throw new Exception();
-							dis.readUnsignedShort();// class minor
-							dis.readUnsignedShort();// class major
-							new ConstPool(dis);// read const pool
-							int accessFlags = dis.readUnsignedShort(); //accessFlags
-							if ((accessFlags & AccessFlag.PUBLIC) == 0 && (accessFlags & AccessFlag.PROTECTED) == 0)
-								continue;
-						} catch (Exception e) {
-							LOG.debug("Failed to check access flags of " + entryName + " - assuming public");
-						}
-
-						String fqdn = entryName.replace('\\', '.').replace('/', '.');
-						fqdn = fqdn.substring(0, fqdn.length() - 6);
-						int lastIndxDot = fqdn.lastIndexOf('.');
-						String className = fqdn;
-						String packageName = "";
-						if (lastIndxDot != -1) {
-							packageName = fqdn.substring(0, lastIndxDot);
-							className = fqdn.substring(lastIndxDot + 1);
-						}
-
-						addClassToTree(packageName, className, retval);
-					}
-				} catch (IOException e) {
-					LOG.warn("Failed to load import format classes", e);
+			if (!libraryFile.isFile() || !(ZipIO.checkIfZip(libraryFile) || ZipIO.checkIfJMod(libraryFile)))
+				return List.<String>of();
+
+			List<String> classes = ClasspathScanCache.load(libraryFile);
+			if (classes == null) {
+				classes = scanLibrary(libraryFile);
+				if (classes != null) {
+					ClasspathScanCache.store(libraryFile, classes);
+					scanned.incrementAndGet();
 				}
 			}
-		});
+			return classes != null ? classes : List.<String>of();
+		}).toList();
+
+		LOG.info("Loaded import tree of " + libraryInfos.size() + " libraries, " + scanned.get()
+				+ " of them had to be scanned");
+
+		// new libraries usually replace older versions of them, so the cache is pruned when new libraries are scanned
+		if (scanned.get() > 0)
+			ClasspathScanCache.prune();
+
+		Map<String, List<String>> retval = new HashMap<>();
+		for (List<String> classes : libraryClasses) {
+			for (String fqdn : classes) {
+				int lastIndxDot = fqdn.lastIndexOf('.');
+				String className = fqdn;
+				String packageName = "";
+				if (lastIndxDot != -1) {
+					packageName = fqdn.substring(0, lastIndxDot);
+					className = fqdn.substring(lastIndxDot + 1);
+				}
+
+				addClassToTree(packageName, className, retval);
+			}
+		}
 		return retval;
 	}
 
-	static void reloadClassesFromMod(Generator generator, Map<String, List<String>> store) {
-		reloadClassesFromModImpl(generator.getSourceRoot(), generator.getSourceRoot(), store);
-	}
+	/**
+	 * @param libraryFile JAR or JMOD file to scan
+	 * @return List of fully qualified names of public and protected top level classes of the library or null if the
+	 * library could not be read
+	 */
+	@Nullable private static List<String> scanLibrary(File libraryFile) {
+		List<String> retval = new ArrayList<>();
+		try (ZipFile zipFile = ZipIO.openZipFile(libraryFile)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			boolean isJmod = libraryFile.getName().endsWith(".jmod");
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				String entryName = entry.getName();
+
+				if (isJmod) {
+					if (!entryName.startsWith("classes/"))
+						continue;
+					entryName = entryName.substring(8);
+				}
 
-	private static void reloadClassesFromModImpl(File parent, File root, Map<String, List<String>> store) {
-		String pathRelativeToRoot = parent.getAbsolutePath().replace(root.getAbsolutePath(), "");
-		String packageName = pathRelativeToRoot.replace('\\', '.').replace('/', '.').replaceFirst("\\.", "");
-
-		File[] files = parent.listFiles();
-		for (File file : files != null ? files : new File[0]) {
-			if (file.isDirectory()) {
-				reloadClassesFromModImpl(file, root, store);
-			} else {
-				String className = FilenameUtilsPatched.removeExtension(file.getName());
-				addClassToTree(packageName, className, store);
+				// only load classes that are not inner
+				if (!entryName.endsWith(".class") || entryName.contains("$"))
+					continue;
+
+				// skip internal JDK APIs
+				if (entryName.startsWith("jdk/internal/"))
+					continue;
+
+				// skip Sun APIs
+				if (entryName.startsWith("sun/") || entryName.startsWith("com/sun/"))
+					continue;
+
+				// skip package and modules info entries
+				if (entryName.endsWith("package-info.class") || entryName.endsWith("module-info.class"))
+					continue;
+
+				// skip some libraries
+				if (entryName.startsWith("org/antlr"))
+					continue;
+
+				// skip all meta-info paths
+				if (entryName.startsWith("META-INF/"))
+					continue;
+
+				// check if class is public or protected
+				try {
+					DataInputStream dis = new DataInputStream(zipFile.getInputStream(entry));
+					int magic = dis.readInt(); // check magic number
+					if (magic != 0xCAFEBABE)
+						throw new Exception();
+					dis.readUnsignedShort();// class minor
+					dis.readUnsignedShort();// class major
+					new ConstPool(dis);// read const pool
+					int accessFlags = dis.readUnsignedShort(); //accessFlags
+					if ((accessFlags & AccessFlag.PUBLIC) == 0 && (accessFlags & AccessFlag.PROTECTED) == 0)
+						continue;
+				} catch (Exception e) {
+					LOG.debug("Failed to check access flags of " + entryName + " - assuming public");
+				}
+
+				String fqdn = entryName.replace('\\', '.').replace('/', '.');
+				retval.add(fqdn.substring(0, fqdn.length() - 6));
 			}
+		} catch (IOException e) {
+			LOG.warn("Failed to load import format classes", e);
+			return null;
 		}
+		return retval;
 	}
 
 	private static void addClassToTree(String packageName, String className, Map<String, List<String>> store) {
@@ -0,0 +1,374 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.io.UserFolderManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.fife.rsta.ac.java.buildpath.LibraryInfo;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only import tree (simple class name to fully qualified class names) backed by a memory-mapped binary file.
+ * <p>
+ * Index files are stored in the user folder and named by the hash of the class file sources they were built from
+ * (paths, sizes and modification times), so workspaces with the same classpath share one index file. Index files
+ * that were not used for a while are deleted when a new index file is stored.
+ * <p>
+ * File layout (big-endian):
+ * <ul>
+ *     <li>header: magic, format version, class count, package count</li>
+ *     <li>class table: for each class sorted by UTF-8 bytes of its name, offset of its name and offset of its
+ *     package list</li>
+ *     <li>package table: offset of the name of each package</li>
+ *     <li>package lists: count followed by package indices</li>
+ *     <li>string data: length (unsigned short) followed by UTF-8 bytes</li>
+ * </ul>
+ */
+public final class ImportTreeIndex extends AbstractMap<String, List<String>> {
+
+	private static final Logger LOG = LogManager.getLogger("Import Tree Index");
+
+	private static final int MAGIC = 0x4D434954; // MCIT
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+
+	private static final long UNUSED_INDEX_EXPIRY = TimeUnit.DAYS.toMillis(14);
+	private static final long TEMP_FILE_EXPIRY = TimeUnit.HOURS.toMillis(1);
+
+	private final String version;
+	private final ByteBuffer buffer;
+	private final int classCount;
+	private final int packageCount;
+
+	@Nullable private Set<Entry<String, List<String>>> entrySet;
+
+	private ImportTreeIndex(String version, ByteBuffer buffer) throws IOException {
+		this.version = version;
+		this.buffer = buffer;
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION)
+			throw new IOException("Invalid import tree index format");
+
+		this.classCount = buffer.getInt(8);
+		this.packageCount = buffer.getInt(12);
+	}
+
+	/**
+	 * Loads the shared index for the class file sources of the given JAR manager, or builds and stores it if it does
+	 * not exist yet.
+	 *
+	 * @param projectJarManager JAR manager providing the class file sources
+	 * @return Import tree for the class file sources
+	 */
+	public static Map<String, List<String>> loadOrCreate(ProjectJarManager projectJarManager) {
+		File indexFile = getIndexFile(projectJarManager.getClassFileSources());
+
+		if (indexFile.isFile()) {
+			try {
+				ImportTreeIndex index = open(indexFile);
+				indexFile.setLastModified(System.currentTimeMillis()); // mark the index as used
+				return index;
+			} catch (IOException e) {
+				LOG.warn("Failed to load import tree index " + indexFile + ", rebuilding it", e);
+			}
+		}
+
+		Map<String, List<String>> importTree = ImportTreeBuilder.generateImportTree(projectJarManager);
+		try {
+			write(importTree, indexFile);
+			deleteStaleIndexFiles(indexFile);
+		} catch (IOException e) {
+			// index file that is memory-mapped (e.g. by another workspace) can not be replaced on Windows,
+			// in such case the existing index file is used if it is valid
+			LOG.warn("Failed to store import tree index " + indexFile + ", using the existing index file", e);
+		}
+
+		try {
+			return open(indexFile);
+		} catch (IOException e) {
+			LOG.warn("Failed to load import tree index " + indexFile + ", using the import tree from memory", e);
+			return importTree;
+		}
+	}
+
+	static ImportTreeIndex open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new ImportTreeIndex(file.getName(), buffer);
+		}
+	}
+
+	static void write(Map<String, List<String>> importTree, File file) throws IOException {
+		// sort class names by their UTF-8 bytes, so lookups can binary search the encoded names
+		List<byte[]> classNames = new ArrayList<>();
+		Map<String, Integer> packageIndices = new LinkedHashMap<>();
+		List<List<Integer>> classPackages = new ArrayList<>();
+
+		List<Map.Entry<String, List<String>>> entries = new ArrayList<>(importTree.entrySet());
+		entries.sort((a, b) -> Arrays.compareUnsigned(a.getKey().getBytes(StandardCharsets.UTF_8),
+				b.getKey().getBytes(StandardCharsets.UTF_8)));
+
+		for (Map.Entry<String, List<String>> entry : entries) {
+			classNames.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+
+			List<Integer> packages = new ArrayList<>();
+			for (String fqdn : entry.getValue()) {
+				int lastDot = fqdn.lastIndexOf('.');
+				String packageName = lastDot == -1 ? "" : fqdn.substring(0, lastDot);
+				packages.add(packageIndices.computeIfAbsent(packageName, key -> packageIndices.size()));
+			}
+			classPackages.add(packages);
+		}
+
+		List<byte[]> packageNames = packageIndices.keySet().stream().map(e -> e.getBytes(StandardCharsets.UTF_8))
+				.toList();
+
+		int classTableOffset = HEADER_SIZE;
+		int packageTableOffset = classTableOffset + classNames.size() * 8;
+		int packageListsOffset = packageTableOffset + packageNames.size() * 4;
+
+		int stringsOffset = packageListsOffset;
+		for (List<Integer> packages : classPackages)
+			stringsOffset += 4 + packages.size() * 4;
+
+		// each write uses its own temporary file, as other MCreator instances can write the same index at once
+		file.getParentFile().mkdirs();
+		File tempFile = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp").toFile();
+
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tempFile), 65536))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(classNames.size());
+				out.writeInt(packageNames.size());
+
+				// class table
+				int stringOffset = stringsOffset;
+				int packageListOffset = packageListsOffset;
+				for (int i = 0; i < classNames.size(); i++) {
+					out.writeInt(stringOffset);
+					out.writeInt(packageListOffset);
+					stringOffset += 2 + classNames.get(i).length;
+					packageListOffset += 4 + classPackages.get(i).size() * 4;
+				}
+
+				// package table
+				for (byte[] packageName : packageNames) {
+					out.writeInt(stringOffset);
+					stringOffset += 2 + packageName.length;
+				}
+
+				// package lists
+				for (List<Integer> packages : classPackages) {
+					out.writeInt(packages.size());
+					for (int packageIndex : packages)
+						out.writeInt(packageIndex);
+				}
+
+				// string data
+				for (byte[] className : classNames) {
+					out.writeShort(className.length);
+					out.write(className);
+				}
+				for (byte[] packageName : packageNames) {
+					out.writeShort(packageName.length);
+					out.write(packageName);
+				}
+			}
+
+			// move the complete file in place, so other workspaces never map a partially written index
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(tempFile.toPath());
+			throw e;
+		}
+	}
+
+	/**
+	 * Deletes index files that were not used for a while and temporary files left by interrupted writes
+	 *
+	 * @param indexFile Index file that was just stored
+	 */
+	private static void deleteStaleIndexFiles(File indexFile) {
+		File[] files = indexFile.getParentFile().listFiles();
+		long now = System.currentTimeMillis();
+		for (File file : files != null ? files : new File[0]) {
+			if (file.equals(indexFile))
+				continue;
+
+			long expiry = file.getName().endsWith(".tmp") ? TEMP_FILE_EXPIRY : UNUSED_INDEX_EXPIRY;
+			if (now - file.lastModified() > expiry && !file.delete()) // can fail if the file is still mapped
+				LOG.debug("Failed to delete stale import tree index " + file);
+		}
+	}
+
+	/**
+	 * @return Identifier of the class file sources this index was built from
+	 */
+	String getVersion() {
+		return version;
+	}
+
+	private static File getIndexFile(List<LibraryInfo> classFileSources) {
+		List<String> sourceKeys = new ArrayList<>();
+		for (LibraryInfo libraryInfo : classFileSources) {
+			if (libraryInfo == null)
+				continue;
+
+			File libraryFile = new File(libraryInfo.getLocationAsString());
+			sourceKeys.add(libraryFile.getAbsolutePath() + ";" + libraryFile.length() + ";" + libraryFile.lastModified());
+		}
+		Collections.sort(sourceKeys);
+
+		String key;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(Integer.toString(FORMAT_VERSION).getBytes(StandardCharsets.UTF_8));
+			for (String sourceKey : sourceKeys) {
+				digest.update(sourceKey.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			key = HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			key = Integer.toHexString(sourceKeys.hashCode());
+		}
+
+		return UserFolderManager.getFileFromUserFolder("cache/importtree/" + key + ".bin");
+	}
+
+	@Override public List<String> get(Object key) {
+		if (!(key instanceof String className))
+			return null;
+
+		int classIndex = findClass(className.getBytes(StandardCharsets.UTF_8));
+		return classIndex >= 0 ? getPackages(classIndex, className) : null;
+	}
+
+	@Override public boolean containsKey(Object key) {
+		return key instanceof String className && findClass(className.getBytes(StandardCharsets.UTF_8)) >= 0;
+	}
+
+	@Override public int size() {
+		return classCount;
+	}
+
+	@Override public @Nonnull Set<Entry<String, List<String>>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<>() {
+				@Override public @Nonnull Iterator<Entry<String, List<String>>> iterator() {
+					return new Iterator<>() {
+						private int index = 0;
+
+						@Override public boolean hasNext() {
+							return index < classCount;
+						}
+
+						@Override public Entry<String, List<String>> next() {
+							if (index >= classCount)
+								throw new NoSuchElementException();
+
+							String className = readString(buffer.getInt(HEADER_SIZE + index * 8));
+							return new SimpleImmutableEntry<>(className, getPackages(index++, className));
+						}
+					};
+				}
+
+				@Override public int size() {
+					return classCount;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private int findClass(byte[] className) {
+		int low = 0, high = classCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = compareString(buffer.getInt(HEADER_SIZE + mid * 8), className);
+			if (cmp < 0)
+				low = mid + 1;
+			else if (cmp > 0)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	private List<String> getPackages(int classIndex, String className) {
+		int packageListOffset = buffer.getInt(HEADER_SIZE + classIndex * 8 + 4);
+		int count = buffer.getInt(packageListOffset);
+
+		int packageTableOffset = HEADER_SIZE + classCount * 8;
+
+		List<String> retval = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int packageIndex = buffer.getInt(packageListOffset + 4 + i * 4);
+			if (packageIndex >= packageCount)
+				continue;
+
+			String packageName = readString(buffer.getInt(packageTableOffset + packageIndex * 4));
+			retval.add(packageName.isEmpty() ? className : packageName + '.' + className);
+		}
+		return Collections.unmodifiableList(retval);
+	}
+
+	private int compareString(int offset, byte[] other) {
+		int length = Short.toUnsignedInt(buffer.getShort(offset));
+		int common = Math.min(length, other.length);
+		for (int i = 0; i < common; i++) {
+			int cmp = Byte.compareUnsigned(buffer.get(offset + 2 + i), other[i]);
+			if (cmp != 0)
+				return cmp;
+		}
+		return Integer.compare(length, other.length);
+	}
+
+	private String readString(int offset) {
+		int length = Short.toUnsignedInt(buffer.getShort(offset));
+		byte[] bytes = new byte[length];
+		buffer.get(offset + 2, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
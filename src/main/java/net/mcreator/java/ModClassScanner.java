@@ -0,0 +1,109 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.java;
+
+import net.mcreator.util.FilenameUtilsPatched;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Keeps a snapshot of classes in the mod source tree. On rescan, only directories whose modification time changed
+ * since the last scan are listed again, as adding or removing a class file changes the modification time of its
+ * parent directory.
+ */
+final class ModClassScanner {
+
+	// directories modified this close to the last scan are listed again, as file system timestamps can be coarse
+	private static final long TIMESTAMP_GRANULARITY = 2000;
+
+	private final File root;
+
+	private final Map<File, DirectorySnapshot> directories = new HashMap<>();
+
+	private long lastScan = 0;
+
+	ModClassScanner(File root) {
+		this.root = root;
+	}
+
+	File getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return Unmodifiable map of simple class names to fully qualified names of mod classes
+	 */
+	Map<String, List<String>> scan() {
+		long scanStart = System.currentTimeMillis();
+
+		Map<File, DirectorySnapshot> visited = new HashMap<>();
+		scanDirectory(root, "", visited);
+
+		// keep only directories that still exist
+		directories.clear();
+		directories.putAll(visited);
+		lastScan = scanStart;
+
+		Map<String, List<String>> retval = new HashMap<>();
+		for (DirectorySnapshot snapshot : visited.values()) {
+			for (String className : snapshot.classNames()) {
+				retval.computeIfAbsent(className, key -> new ArrayList<>(1))
+						.add(snapshot.packageName().isEmpty() ? className : snapshot.packageName() + '.' + className);
+			}
+		}
+		retval.replaceAll((key, value) -> List.copyOf(value));
+		return Collections.unmodifiableMap(retval);
+	}
+
+	private void scanDirectory(File directory, String packageName, Map<File, DirectorySnapshot> visited) {
+		long lastModified = directory.lastModified();
+
+		DirectorySnapshot snapshot = directories.get(directory);
+		if (snapshot == null || snapshot.lastModified() != lastModified
+				|| lastModified >= lastScan - TIMESTAMP_GRANULARITY) {
+			List<String> classNames = new ArrayList<>();
+			List<File> subdirectories = new ArrayList<>();
+
+			File[] files = directory.listFiles();
+			for (File file : files != null ? files : new File[0]) {
+				if (file.isDirectory()) {
+					subdirectories.add(file);
+				} else {
+					classNames.add(FilenameUtilsPatched.removeExtension(file.getName()));
+				}
+			}
+
+			snapshot = new DirectorySnapshot(lastModified, packageName, classNames, subdirectories);
+		}
+
+		visited.put(directory, snapshot);
+
+		for (File subdirectory : snapshot.subdirectories()) {
+			scanDirectory(subdirectory,
+					packageName.isEmpty() ? subdirectory.getName() : packageName + '.' + subdirectory.getName(),
+					visited);
+		}
+	}
+
+	private record DirectorySnapshot(long lastModified, String packageName, List<String> classNames,
+									 List<File> subdirectories) {}
+
+}
@@ -97,6 +97,13 @@ public class MCItem extends DataListEntry {
 		if (name.startsWith("TAG:"))
 			return TAG_ICON;
 
+		if (workspace == null)
+			return resolveBlockIcon(null, name);
+
+		return workspace.getModElementManager().getMCItemIconCache().get(name, key -> resolveBlockIcon(workspace, key));
+	}
+
+	private static ImageIcon resolveBlockIcon(@Nullable Workspace workspace, String name) {
 		ImageIcon retval = null;
 		try {
 			if (name.startsWith("CUSTOM:")) {
@@ -152,6 +159,10 @@ public class MCItem extends DataListEntry {
 
 			if (retval != null && retval.getImage() != null && retval.getImage().getWidth(null) > -1
 					&& retval.getImage().getHeight(null) > -1) {
+				// data list icons are already 32px, so they do not need to be copied
+				if (retval.getIconWidth() == 32 && retval.getIconHeight() == 32)
+					return retval;
+
 				// The image is cropped to fix an issue with long animated textures
 				return new ImageIcon(ImageUtils.resizeAndCrop(retval.getImage(), 32));
 			}
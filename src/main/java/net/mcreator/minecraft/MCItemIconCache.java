@@ -0,0 +1,90 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.minecraft;
+
+import net.mcreator.generator.GeneratorWrapper;
+
+import javax.annotation.Nullable;
+import javax.swing.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of icons resolved by {@link MCItem#getBlockIconBasedOnName(net.mcreator.workspace.Workspace, String)} for a
+ * single workspace, keyed by the MCItem name.
+ * <p>
+ * Icons of custom MCItems and custom potions depend on their mod element, so they are invalidated whenever the mod
+ * element or its picture is stored, or when the mod element is removed.
+ */
+public final class MCItemIconCache {
+
+	private final Map<String, ImageIcon> icons = new ConcurrentHashMap<>();
+
+	// incremented on each invalidation, so icons resolved before the invalidation are not cached
+	private long generation = 0;
+
+	/**
+	 * @param name     Name of the MCItem
+	 * @param resolver Function that resolves the icon if it is not cached
+	 * @return Cached or resolved icon of the MCItem
+	 */
+	public ImageIcon get(String name, Function<String, ImageIcon> resolver) {
+		ImageIcon icon = icons.get(name);
+		if (icon != null)
+			return icon;
+
+		long resolvedGeneration;
+		synchronized (this) {
+			resolvedGeneration = generation;
+		}
+
+		// icon is not resolved in computeIfAbsent, as resolving can load the mod element and thus invalidate icons
+		icon = resolver.apply(name);
+
+		synchronized (this) {
+			if (resolvedGeneration == generation)
+				icons.putIfAbsent(name, icon);
+		}
+
+		return icon;
+	}
+
+	/**
+	 * @param elementName Name of the mod element whose icons should be resolved again
+	 */
+	public synchronized void invalidate(String elementName) {
+		generation++;
+		icons.keySet().removeIf(name -> elementName.equals(getElementName(name)));
+	}
+
+	public synchronized void invalidateAll() {
+		generation++;
+		icons.clear();
+	}
+
+	@Nullable private static String getElementName(String name) {
+		if (name.startsWith("POTION:"))
+			name = name.substring("POTION:".length());
+
+		return name.startsWith("CUSTOM:") ? GeneratorWrapper.getElementPlainName(name) : null;
+	}
+
+}
@@ -37,6 +37,7 @@ public class GradleSection extends PreferencesSection {
 	public IntegerEntry xms;
 	public IntegerEntry xmx;
 	public BooleanEntry offline;
+	public BooleanEntry incrementalRegeneration;
 
 	GradleSection(String preferencesIdentifier) {
 		super(preferencesIdentifier);
@@ -46,6 +47,7 @@ public class GradleSection extends PreferencesSection {
 		xms = addEntry(new IntegerEntry("Xms", Math.min(1024, MAX_RAM), 128, MAX_RAM));
 		xmx = addEntry(new IntegerEntry("Xmx", Math.min(3072, MAX_RAM), 128, MAX_RAM));
 		offline = addEntry(new BooleanEntry("offline", false));
+		incrementalRegeneration = addEntry(new BooleanEntry("incrementalRegeneration", false));
 	}
 
 	@Override public String getSectionKey() {
@@ -26,6 +26,7 @@ public class PreferencesData {
 	public final UISection ui;
 	public final NotificationsSection notifications;
 	public final BackupsSection backups;
+	public final WorkspaceSection workspace;
 	public final BlocklySection blockly;
 	public final IDESection ide;
 	public final GradleSection gradle;
@@ -36,6 +37,7 @@ public class PreferencesData {
 		ui = new UISection(CORE_PREFERENCES_KEY);
 		notifications = new NotificationsSection(CORE_PREFERENCES_KEY);
 		backups = new BackupsSection(CORE_PREFERENCES_KEY);
+		workspace = new WorkspaceSection(CORE_PREFERENCES_KEY);
 		blockly = new BlocklySection(CORE_PREFERENCES_KEY);
 		ide = new IDESection(CORE_PREFERENCES_KEY);
 		gradle = new GradleSection(CORE_PREFERENCES_KEY);
@@ -24,7 +24,6 @@ import net.mcreator.blockly.data.BlocklyLoader;
 import net.mcreator.element.ModElementTypeLoader;
 import net.mcreator.generator.Generator;
 import net.mcreator.generator.GeneratorConfiguration;
-import net.mcreator.io.FileIO;
 import net.mcreator.io.net.analytics.AnalyticsConstants;
 import net.mcreator.io.net.analytics.DeviceInfo;
 import net.mcreator.io.net.analytics.GoogleAnalytics;
@@ -52,6 +51,7 @@ import net.mcreator.workspace.CorruptedWorkspaceFileException;
 import net.mcreator.workspace.MissingGeneratorFeaturesException;
 import net.mcreator.workspace.UnsupportedGeneratorException;
 import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.WorkspaceFileManager;
 import net.mcreator.workspace.elements.VariableTypeLoader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -308,7 +308,7 @@ public final class MCreatorApplication {
 								backups, "");
 						if (selected != null) {
 							File backup = new File(backupsDir, selected);
-							FileIO.copyFile(backup, workspaceFile);
+							WorkspaceFileManager.restoreWorkspaceFileBackup(backup, workspaceFile);
 							openWorkspaceInMCreator(workspaceFile);
 						} else {
 							reportFailedWorkspaceOpen(new IOException("User canceled workspace backup restoration",
@@ -20,18 +20,20 @@ package net.mcreator.ui.action.impl.workspace;
 
 import net.mcreator.element.GeneratableElement;
 import net.mcreator.element.ModElementType;
-import net.mcreator.generator.GeneratorFile;
 import net.mcreator.generator.GeneratorTemplate;
+import net.mcreator.generator.ParallelElementGenerator;
 import net.mcreator.gradle.GradleTaskFinishedListener;
 import net.mcreator.io.FileIO;
-import net.mcreator.io.writer.ClassWriter;
+import net.mcreator.io.FileSet;
 import net.mcreator.plugin.modapis.ModAPIManager;
+import net.mcreator.preferences.PreferencesManager;
 import net.mcreator.ui.MCreator;
 import net.mcreator.ui.action.ActionRegistry;
 import net.mcreator.ui.action.impl.gradle.GradleAction;
 import net.mcreator.ui.dialogs.ProgressDialog;
 import net.mcreator.ui.init.L10N;
 import net.mcreator.ui.init.UIRES;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import net.mcreator.workspace.elements.TagElement;
 import org.apache.logging.log4j.LogManager;
@@ -41,7 +43,8 @@ import javax.annotation.Nullable;
 import javax.swing.*;
 import java.io.File;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RegenerateCodeAction extends GradleAction {
 
@@ -61,13 +64,22 @@ public class RegenerateCodeAction extends GradleAction {
 			@Nullable GradleTaskFinishedListener taskSpecificListener) {
 		ProgressDialog dial = new ProgressDialog(mcreator, L10N.t("dialog.workspace.regenerate_and_build.title"));
 		Thread thread = new Thread(() -> {
+			// in incremental mode, mod elements that did not change since the last generation are not regenerated
+			boolean incremental = PreferencesManager.PREFERENCES.gradle.incrementalRegeneration.get();
+
+			// files are only written if their contents change, so existing files are not deleted before regeneration,
+			// files that are neither written nor confirmed as up to date by the generator are deleted afterwards
+			mcreator.getGenerator().startRecordingWrittenFiles();
+
 			ProgressDialog.ProgressUnit p0 = new ProgressDialog.ProgressUnit(
 					L10N.t("dialog.workspace.regenerate_and_build.progress.removing_autogenerated_code"));
 			dial.addProgressUnit(p0);
 
 			List<File> toBePreserved = new ArrayList<>();
+			List<File> placeholderFiles = new ArrayList<>();
 
-			// remove all sources of mod elements that are not locked
+			// collect sources of mod elements and create missing Java files, so imports can be organised in memory
+			// while the elements are generated
 			Collection<ModElement> modElementsOld = mcreator.getWorkspace().getModElements();
 			int modstoload = modElementsOld.size();
 			int i = 0;
@@ -87,17 +99,28 @@ public class RegenerateCodeAction extends GradleAction {
 						.getModElementGeneratorTemplatesList(generatableElement);
 
 				List<File> modElementFiles = templates.stream().map(GeneratorTemplate::getFile).toList();
-				toBePreserved.addAll(modElementFiles); // we don't delete mod element files in next step
-				if (!mod.isCodeLocked()) // but we do in this step, if the code is not locked
-					modElementFiles.forEach(File::delete);
+				toBePreserved.addAll(modElementFiles); // we don't delete mod element files after regeneration
+
+				if (!mod.isCodeLocked()) {
+					List<File> missingFiles = modElementFiles.stream().filter(file -> !file.isFile())
+							.filter(file -> file.getName().endsWith(".java")).toList();
+					if (!missingFiles.isEmpty()) {
+						// placeholder files exist, so the element has to be generated again in the incremental mode
+						mcreator.getGenerator().invalidateGenerationFingerprint(mod);
+						missingFiles.forEach(FileIO::touchFile);
+						placeholderFiles.addAll(missingFiles);
+					}
+				}
 			}
 
-			// delete all non mod element related files from code base package
-			File[] files = FileIO.listFilesRecursively(mcreator.getGenerator().getGeneratorPackageRoot());
-			for (File a : files) {
-				if (!FileIO.isFileOnFileList(toBePreserved,
-						a)) // if file is not part of one of the mod elements, it can be removed
-					a.delete();
+			// base files are also kept, the same applies to the missing Java files of the base
+			for (GeneratorTemplate template : mcreator.getGenerator().getModBaseGeneratorTemplatesList(false)) {
+				File file = template.getFile();
+				toBePreserved.add(file);
+				if (!file.isFile() && file.getName().endsWith(".java")) {
+					FileIO.touchFile(file);
+					placeholderFiles.add(file);
+				}
 			}
 
 			// Delete all managed tag entries
@@ -109,72 +132,62 @@ public class RegenerateCodeAction extends GradleAction {
 
 			p0.markStateOk();
 
-			ProgressDialog.ProgressUnit p10 = new ProgressDialog.ProgressUnit(
-					L10N.t("dialog.workspace.regenerate_and_build.progress.loading_mod_elements"));
-			dial.addProgressUnit(p10);
-			modElementsOld = mcreator.getWorkspace().getModElements();
-			modstoload = modElementsOld.size();
-			i = 0;
-			for (ModElement mod : modElementsOld) {
-				mod.getGeneratableElement();
-				p10.setPercent((int) (i / (float) modstoload * 100));
-				i++;
-			}
-			p10.markStateOk();
+			// elements are loaded while they are generated, so they do not all need to stay in memory at once
+			ParallelElementGenerator elementGenerator = new ParallelElementGenerator(mcreator.getGenerator());
 
 			ProgressDialog.ProgressUnit p1 = new ProgressDialog.ProgressUnit(
 					L10N.t("dialog.workspace.regenerate_and_build.progress.regenerating_code"));
 			dial.addProgressUnit(p1);
 
 			Set<ModElement> skippedElements = new HashSet<>(0);
-			boolean skipAll = !warnMissingDefinitions; // if warnMissingDefinitions is false, we skip all by default without warnings
-			boolean hasLockedElements = false;
+			// if warnMissingDefinitions is false, we skip all by default without warnings
+			AtomicBoolean skipAll = new AtomicBoolean(!warnMissingDefinitions);
+			AtomicBoolean hasLockedElements = new AtomicBoolean(false);
 
 			// list of generatablemodelements to save after rebuild
 			List<GeneratableElement> generatableElementsToSave = new ArrayList<>();
-			Set<File> filesToReformat = new HashSet<>();
 
-			modstoload = mcreator.getWorkspace().getModElements().size();
-			i = 0;
-			for (ModElement mod : mcreator.getWorkspace().getModElements()) {
-				p1.setPercent((int) (i / (float) modstoload * 100));
-				i++;
+			Collection<ModElement> modElementsToGenerate = mcreator.getWorkspace().getModElements();
+			int elementsToGenerate = modElementsToGenerate.size();
+			AtomicInteger generatedCount = new AtomicInteger();
+
+			// elements are rendered in parallel, results are processed here in the mod element order
+			elementGenerator.generate(modElementsToGenerate, incremental, result -> {
+				ModElement mod = result.modElement();
+
+				p1.setPercent((int) (generatedCount.getAndIncrement() / (float) elementsToGenerate * 100));
 
 				if (mod.isCodeLocked()) {
-					hasLockedElements = true;
+					hasLockedElements.set(true);
 				}
 
-				try {
-					GeneratableElement generatableElement = mod.getGeneratableElement();
-					if (generatableElement == null) {
-						LOG.warn("Failed to regenerate: " + mod.getName() + " as it has no generatable element");
-
-						if (!skipAll) {
-							int opt = JOptionPane.showOptionDialog(mcreator,
-									L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.message",
-											mod.getName(), skippedElements.size()),
-									L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.title"),
-									JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE, null, new String[] {
-											L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.option.skip_one"),
-											L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.option.skip_all") },
-									0);
-							if (opt == 1)
-								skipAll = true;
-						}
-						skippedElements.add(mod);
-						continue;
+				GeneratableElement generatableElement = result.generatableElement();
+				if (generatableElement == null) {
+					LOG.warn("Failed to regenerate: " + mod.getName() + " as it has no generatable element");
+
+					if (!skipAll.get()) {
+						int opt = JOptionPane.showOptionDialog(mcreator,
+								L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.message",
+										mod.getName(), skippedElements.size()),
+								L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.title"),
+								JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE, null, new String[] {
+										L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.option.skip_one"),
+										L10N.t("dialog.workspace.regenerate_and_build.error.failed_to_import.option.skip_all") },
+								0);
+						if (opt == 1)
+							skipAll.set(true);
 					}
+					skippedElements.add(mod);
+					return;
+				}
 
-					LOG.debug("Regenerating " + mod.getType().getReadableName() + " mod element: " + mod.getName());
-
-					// generate mod element code
-					List<GeneratorFile> generatedFiles = mcreator.getGenerator()
-							.generateElement(generatableElement, false);
+				if (result.exception() != null) {
+					LOG.error("Failed to regenerate: " + mod.getName(), result.exception());
+					return;
+				}
 
-					if (!mod.isCodeLocked()) {
-						filesToReformat.addAll(
-								generatedFiles.stream().map(GeneratorFile::getFile).collect(Collectors.toSet()));
-					}
+				try {
+					LOG.debug("Regenerated " + mod.getType().getReadableName() + " mod element: " + mod.getName());
 
 					// save custom mod element picture if it has one
 					mcreator.getModElementManager().storeModElementPicture(generatableElement);
@@ -189,11 +202,14 @@ public class RegenerateCodeAction extends GradleAction {
 				} catch (Exception e) {
 					LOG.error("Failed to regenerate: " + mod.getName(), e);
 				}
-			}
+			});
 
 			// save all updated generatable mod elements
 			generatableElementsToSave.parallelStream().forEach(mcreator.getModElementManager()::storeModElement);
 
+			// store fingerprints of generated mod elements for the next incremental regeneration
+			mcreator.getGenerator().saveGenerationFingerprints();
+
 			if (warnMissingDefinitions && !skippedElements.isEmpty()) {
 				skippedElements.forEach(el -> {
 					try {
@@ -208,7 +224,7 @@ public class RegenerateCodeAction extends GradleAction {
 						JOptionPane.WARNING_MESSAGE);
 			}
 
-			if (warnLockedCode && hasLockedElements)
+			if (warnLockedCode && hasLockedElements.get())
 				JOptionPane.showMessageDialog(dial,
 						L10N.t("dialog.workspace.regenerate_and_build.warning.elements_with_locked_code.message"),
 						L10N.t("dialog.workspace.regenerate_and_build.warning.elements_with_locked_code.title"),
@@ -221,8 +237,7 @@ public class RegenerateCodeAction extends GradleAction {
 			dial.addProgressUnit(p2);
 
 			mcreator.getGenerator().runResourceSetupTasks();
-			// generate base files without organizing imports as we first need all files generated so we can properly organize imports
-			mcreator.getGenerator().generateBase(false);
+			mcreator.getGenerator().generateBase();
 			mcreator.mv.reloadElementsInCurrentTab();
 
 			// remove custom API libraries so they get re-downloaded
@@ -230,21 +245,29 @@ public class RegenerateCodeAction extends GradleAction {
 
 			p2.markStateOk();
 
-			ProgressDialog.ProgressUnit p22 = new ProgressDialog.ProgressUnit(
-					L10N.t("dialog.workspace.regenerate_and_build.progress.reformating_code"));
-			dial.addProgressUnit(p22);
-
-			int ftfCount = filesToReformat.size();
-			// after all files are generated, we can perform global import organization and code reformat
-			ClassWriter.formatAndOrganiseImportsForFiles(mcreator.getWorkspace(), filesToReformat,
-					idx -> p22.setPercent((int) (((float) idx / (float) ftfCount) * 100.0f)));
-
-			p22.markStateOk();
-
 			ProgressDialog.ProgressUnit p23 = new ProgressDialog.ProgressUnit(
 					L10N.t("dialog.workspace.regenerate_and_build.progress.clean_up_workspace"));
 			dial.addProgressUnit(p23);
 
+			// delete files in the code base package that are not part of mod elements or the base and that were not
+			// written by other generator tasks during this regeneration
+			FileSet preservedFiles = new FileSet(toBePreserved);
+			FileSet writtenFiles = mcreator.getGenerator().stopRecordingWrittenFiles();
+			int deletedFiles = 0;
+			for (File file : FileIO.listFilesRecursively(mcreator.getGenerator().getGeneratorPackageRoot())) {
+				if (!preservedFiles.contains(file) && !writtenFiles.contains(file) && file.delete())
+					deletedFiles++;
+			}
+
+			// placeholders of elements that failed to generate
+			for (File file : placeholderFiles) {
+				if (file.length() == 0 && file.delete())
+					deletedFiles++;
+			}
+
+			if (deletedFiles > 0)
+				LOG.info("Deleted " + deletedFiles + " files that are no longer generated");
+
 			FileIO.removeEmptyDirs(mcreator.getGenerator().getSourceRoot());
 			FileIO.removeEmptyDirs(mcreator.getGenerator().getResourceRoot());
 
@@ -259,15 +282,15 @@ public class RegenerateCodeAction extends GradleAction {
 
 			mcreator.getGradleConsole().markRunning(); // so console gets locked while we generate code already
 			try {
-				mcreator.getGenerator().generateBase();
 				mcreator.getGradleConsole().exec("build", taskSpecificListener);
 			} catch (Exception e) { // if something fails, we still need to free the gradle console
 				LOG.error(e.getMessage(), e);
 				mcreator.getGradleConsole().markReady();
 			}
 
-			// Make sure to store any potential changes to the workspace
-			mcreator.getWorkspace().markDirty();
+			// Make sure to store any potential changes to the workspace (mod element metadata and managed tags)
+			mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
+			mcreator.getWorkspace().markDirty(Workspace.Part.TAG_ELEMENTS);
 
 			p3.markStateOk();
 
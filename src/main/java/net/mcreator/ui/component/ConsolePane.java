@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 
 import javax.swing.*;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 import javax.swing.text.SimpleAttributeSet;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.html.HTMLEditorKit;
@@ -40,7 +41,7 @@ public class ConsolePane extends JTextPane {
 
 	public static boolean DEBUG_CONTENTS_TO_LOG = false;
 
-	private boolean transaction = false;
+	private int transactionDepth = 0;
 	private StringBuilder transactionBuffer = new StringBuilder();
 
 	public ConsolePane() {
@@ -84,7 +85,7 @@ public class ConsolePane extends JTextPane {
 	}
 
 	private void insertHTML(String htmlContent) {
-		if (transaction) {
+		if (transactionDepth > 0) {
 			transactionBuffer.append(htmlContent);
 			return;
 		}
@@ -104,21 +105,52 @@ public class ConsolePane extends JTextPane {
 		}
 	}
 
+	/**
+	 * Starts buffering the inserted contents until the matching {@link #endTransaction()} call. Transactions can be
+	 * nested, in which case the contents are inserted when the outermost transaction ends.
+	 */
 	public void beginTransaction() {
-		if (transaction)
+		if (transactionDepth++ > 0)
 			return;
 
-		transaction = true;
 		transactionBuffer = new StringBuilder();
 	}
 
 	public void endTransaction() {
-		transaction = false;
+		if (transactionDepth == 0 || --transactionDepth > 0)
+			return;
+
 		insertHTML(transactionBuffer.toString());
 	}
 
+	/**
+	 * Removes the oldest lines of the console once it is longer than the given length, so it is only about three
+	 * quarters of the given length long afterwards and does not need to be trimmed on each insertion.
+	 *
+	 * @param maxLength Maximal number of characters of the console contents
+	 */
+	public void limitLength(int maxLength) {
+		Document document = getDocument();
+		if (document.getLength() <= maxLength)
+			return;
+
+		try {
+			int end = document.getLength() - maxLength * 3 / 4;
+
+			// remove whole lines, so the first remaining line is displayed in full
+			String text = document.getText(end, Math.min(1024, document.getLength() - end));
+			int lineEnd = text.indexOf('\n');
+			if (lineEnd != -1)
+				end += lineEnd + 1;
+
+			document.remove(0, end);
+		} catch (BadLocationException e) {
+			LOG.error("Failed to trim the console pane", e);
+		}
+	}
+
 	@Override public void setCaretPosition(int position) {
-		if (!transaction)
+		if (transactionDepth == 0)
 			super.setCaretPosition(position);
 	}
 
@@ -423,8 +423,7 @@ public abstract class JItemListField<T> extends JPanel implements IValidable {
 					DataListEntry dataListEntry = dataListEntryOpt.get();
 					setText(dataListEntry.getReadableName());
 					if (dataListEntry.getTexture() != null) {
-						setIcon(new ImageIcon(ImageUtils.resizeAA(
-								BlockItemIcons.getIconForItem(dataListEntry.getTexture()).getImage(), 18)));
+						setIcon(BlockItemIcons.getIconForItem(dataListEntry.getTexture(), 18));
 					}
 				} else {
 					String unmappedValue = mappableElement.getUnmappedValue();
@@ -19,7 +19,8 @@
 package net.mcreator.ui.dialogs;
 
 import net.mcreator.generator.GeneratorTemplate;
-import net.mcreator.io.FileIO;
+import net.mcreator.gradle.GradleErrorClassifier;
+import net.mcreator.io.FileSet;
 import net.mcreator.ui.MCreator;
 import net.mcreator.ui.MCreatorApplication;
 import net.mcreator.ui.action.impl.workspace.RegenerateCodeAction;
@@ -27,6 +28,7 @@ import net.mcreator.ui.init.L10N;
 import net.mcreator.ui.laf.renderer.elementlist.special.CompactModElementListCellRenderer;
 import net.mcreator.ui.laf.themes.Theme;
 import net.mcreator.util.DesktopUtils;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,35 +37,26 @@ import javax.swing.*;
 import java.awt.*;
 import java.io.File;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class CodeErrorDialog {
 
 	private static final Logger LOG = LogManager.getLogger(CodeErrorDialog.class);
 
 	/**
-	 * @param mcreator     MCreator instance
-	 * @param stderroutput Error log in text format
+	 * @param mcreator MCreator instance
+	 * @param errors   Classifier that received the task output
 	 * @return true if this error was handled and displayed to the user
 	 */
-	public static boolean showCodeErrorDialog(MCreator mcreator, String stderroutput) {
-		Set<File> problematicFiles = new HashSet<>();
+	public static boolean showCodeErrorDialog(MCreator mcreator, GradleErrorClassifier errors) {
+		Set<File> problematicFiles = errors.getCompilationErrorFiles();
 
 		mcreator.setCursor(new Cursor(Cursor.WAIT_CURSOR));
 
-		stderroutput.lines().forEach(line -> {
-			if (line.contains(".java:") && line.contains(": error:")) {
-				File fileWithError = new File(line.split(":\\d+: error:")[0].replaceAll("build[/|\\\\]sources", "src"));
-				problematicFiles.add(fileWithError);
-			}
-		});
-
 		Set<ModElement> problematicMods = new HashSet<>();
 
-		List<File> moddefinitionfiles = mcreator.getGenerator().getModBaseGeneratorTemplatesList(false).stream()
-				.map(GeneratorTemplate::getFile).collect(Collectors.toList());
+		FileSet moddefinitionfiles = new FileSet(mcreator.getGenerator().getModBaseGeneratorTemplatesList(false).stream()
+				.map(GeneratorTemplate::getFile).toList());
 		boolean moddefinitionfileerrors = false;
 
 		for (File problematicFile : problematicFiles) {
@@ -71,8 +64,8 @@ public class CodeErrorDialog {
 			if (modElementWithError != null) {
 				problematicMods.add(modElementWithError);
 				modElementWithError.setCompiles(false);
-				mcreator.getWorkspace().markDirty();
-			} else if (FileIO.isFileOnFileList(moddefinitionfiles, problematicFile)) {
+				mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
+			} else if (moddefinitionfiles.contains(problematicFile)) {
 				moddefinitionfileerrors = true;
 			} else {
 				LOG.warn("[ForgeGradleUtil] Error from non MCreator generated class!");
@@ -94,7 +87,7 @@ public class CodeErrorDialog {
 		}
 
 		if (problematicMods.isEmpty()) { // if list is empty, there are no mod elements to show
-			if (stderroutput.contains("see the compiler error output for details")) {
+			if (errors.contains(GradleErrorClassifier.Signature.COMPILER_ERROR_OUTPUT_NOTE)) {
 				mcreator.mcreatorTabs.showTab(mcreator.consoleTab);
 				return true;
 			}
@@ -74,8 +74,7 @@ public class DataListSelectorDialog extends ListSelectorDialog<DataListEntry> {
 						MCItem.getBlockIconBasedOnName(custom.getModElement().getWorkspace(), custom.getName())
 								.getImage(), 18)));
 			} else if (entry.getTexture() != null) {
-				setIcon(new ImageIcon(
-						ImageUtils.resizeAA(BlockItemIcons.getIconForItem(entry.getTexture()).getImage(), 18)));
+				setIcon(BlockItemIcons.getIconForItem(entry.getTexture(), 18));
 			}
 			return label;
 		}
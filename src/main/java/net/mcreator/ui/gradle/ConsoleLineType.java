@@ -0,0 +1,104 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.ui.gradle;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Type of Gradle output line, determining if and how the line is displayed in the Gradle console.
+ * <p>
+ * Lines are classified on the threads that receive the Gradle output, so each set of filtered lines is matched with a
+ * single precompiled pattern instead of checking each known line separately.
+ */
+enum ConsoleLineType {
+
+	/**
+	 * Line is not displayed
+	 */
+	HIDDEN,
+	/**
+	 * Line is replaced with the notice about the official obfuscation mappings
+	 */
+	MAPPINGS_NOTICE,
+	TASK,
+	/**
+	 * Task that did not need to run, e.g. because it is up-to-date
+	 */
+	TASK_UNIMPORTANT,
+	BUILD_SUCCESSFUL,
+	/**
+	 * Line is colored by the log level and thread markers of the line
+	 */
+	LOG,
+	STDERR;
+
+	private static final Pattern STANDARD_OUTPUT_HIDDEN = linesStartingWithOrContaining(
+			List.of("Note: Some input files use or ov", "Note: Recompile with -Xlint",
+					"Note: Some input files use unch", "Deprecated Gradle features were used",
+					"WARNING: (c) 2020 Microsoft Corporation."),
+			List.of("Advanced terminal features are not available in this environment",
+					"Disabling terminal, you're running in an unsupported environment",
+					"uses or overrides a deprecated API", "unchecked or unsafe operations",
+					"to show the individual deprecation warnings and determine", "#sec:command_line_warnings"));
+
+	private static final Pattern STANDARD_ERROR_HIDDEN = linesStartingWithOrContaining(
+			List.of("Note: Some input files use or ov", "Note: Recompile with -Xlint",
+					"Note: Some input files use unch", "WARNING: An illegal reflective access",
+					"WARNING: Illegal reflective access", "WARNING: Please consider reporting this",
+					"WARNING: Use --illegal-access=warn to enable", "WARNING: All illegal access operations will",
+					"SLF4J: "), List.of("uses or overrides a deprecated API", "unchecked or unsafe operations"));
+
+	private static final Pattern TASK_NOT_RUN = linesStartingWithOrContaining(List.of(),
+			List.of(" UP-TO-DATE", " NO-SOURCE", " SKIPPED", " FROM-CACHE"));
+
+	static ConsoleLineType ofStandardOutput(String line) {
+		if (STANDARD_OUTPUT_HIDDEN.matcher(line).find())
+			return HIDDEN;
+		else if (line.startsWith("WARNING: This project is configured to use the official obfuscation"))
+			return MAPPINGS_NOTICE;
+		else if (line.startsWith(":") || line.startsWith(">"))
+			return TASK_NOT_RUN.matcher(line).find() ? TASK_UNIMPORTANT : TASK;
+		else if (line.startsWith("BUILD SUCCESSFUL"))
+			return BUILD_SUCCESSFUL;
+		else
+			return LOG;
+	}
+
+	static ConsoleLineType ofStandardError(String line) {
+		if (line.startsWith("["))
+			return LOG;
+		else if (STANDARD_ERROR_HIDDEN.matcher(line).find())
+			return HIDDEN;
+		else
+			return STDERR;
+	}
+
+	private static Pattern linesStartingWithOrContaining(List<String> prefixes, List<String> fragments) {
+		Stream<String> prefixAlternatives = prefixes.isEmpty() ?
+				Stream.empty() :
+				Stream.of("^(?:" + prefixes.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")");
+		return Pattern.compile(Stream.concat(prefixAlternatives, fragments.stream().map(Pattern::quote))
+				.collect(Collectors.joining("|")));
+	}
+
+}
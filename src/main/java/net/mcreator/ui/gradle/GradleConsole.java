@@ -58,9 +58,11 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.KeyEvent;
 import java.io.File;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
@@ -86,6 +88,23 @@ public class GradleConsole extends JPanel {
 	private static final Color COLOR_MARKER_MAIN = new Color(0x9BB2C7);
 	private static final Color COLOR_STDERR = new Color(0x61D0AE);
 
+	/**
+	 * Interval in milliseconds in which the received Gradle output is displayed, about 30 times per second
+	 */
+	private static final int OUTPUT_FLUSH_INTERVAL = 33;
+	/**
+	 * Maximal number of lines displayed in a single flush, so the UI stays responsive when Gradle logs a lot
+	 */
+	private static final int MAX_LINES_PER_FLUSH = 500;
+	/**
+	 * Maximal number of lines waiting to be displayed, the oldest lines are skipped when there are more lines
+	 */
+	private static final int MAX_PENDING_LINES = 10000;
+	/**
+	 * Maximal number of characters of the console, the oldest lines are removed from the console when it is longer
+	 */
+	private static final int MAX_CONSOLE_LENGTH = 500000;
+
 	ConsolePane pan = new ConsolePane();
 
 	private final List<GradleStateListener> stateListeners = new ArrayList<>();
@@ -106,6 +125,14 @@ public class GradleConsole extends JPanel {
 
 	private CancellationTokenSource cancellationSource = GradleConnector.newCancellationTokenSource();
 
+	// lines received from Gradle, displayed in batches by the outputFlushTimer
+	private final Deque<ConsoleLine> pendingLines = new ArrayDeque<>();
+	private int skippedLines = 0;
+
+	private final Timer outputFlushTimer = new Timer(OUTPUT_FLUSH_INTERVAL, e -> flushOutput(MAX_LINES_PER_FLUSH));
+
+	@Nullable private File logFile = null;
+
 	// a flag to prevent infinite re-runs in case when re-run does not solve the build problem
 	public boolean rerunFlag = false;
 
@@ -276,8 +303,13 @@ public class GradleConsole extends JPanel {
 		ref.statusBar.setGradleMessage("Gradle: " + command);
 		stateListeners.forEach(listener -> listener.taskStarted(command));
 
-		StringBuffer taskOut = new StringBuffer();
-		StringBuffer taskErr = new StringBuffer();
+		logFile = new File(ref.getWorkspace().getFolderManager().getWorkspaceCacheDir(), "gradleConsole.log");
+		GradleTaskOutput taskOutput = new GradleTaskOutput(logFile);
+
+		synchronized (pendingLines) {
+			pendingLines.clear();
+			skippedLines = 0;
+		}
 
 		pan.clearConsole();
 		searchBar.reinstall(pan);
@@ -294,13 +326,13 @@ public class GradleConsole extends JPanel {
 					+ ", JAVA_HOME: " + (java_home != null ? java_home : "Default (not set)") + ", started on: "
 					+ new SimpleDateFormat("yyyy-MM-dd-HH:mm:ss").format(Calendar.getInstance().getTime());
 			append(deviceInfo, COLOR_UNIMPORTANT);
-			taskOut.append(deviceInfo);
+			taskOutput.appendOutput(deviceInfo);
 
 			if (!ref.getWorkspaceSettings().getMCreatorDependencies().isEmpty()) {
 				String apiInfo = "Loaded APIs: " + ref.getWorkspaceSettings().getMCreatorDependencies().stream()
 						.map(e -> e.split(":")[0]).collect(Collectors.joining(", "));
 				append(apiInfo, COLOR_UNIMPORTANT);
-				taskOut.append(apiInfo);
+				taskOutput.appendOutput(apiInfo);
 			}
 
 			if (PreferencesManager.PREFERENCES.gradle.offline.get()) {
@@ -335,91 +367,15 @@ public class GradleConsole extends JPanel {
 
 		task.withCancellationToken(cancellationSource.token());
 
-		task.setStandardOutput(new OutputStreamEventHandler(line -> SwingUtilities.invokeLater(() -> {
-			taskOut.append(line).append("\n");
-
-			if (line.startsWith("Note: Some input files use or ov"))
-				return;
-			if (line.startsWith("Note: Recompile with -Xlint"))
-				return;
-			if (line.startsWith("Note: Some input files use unch"))
-				return;
-			if (line.contains("Advanced terminal features are not available in this environment"))
-				return;
-			if (line.contains("Disabling terminal, you're running in an unsupported environment"))
-				return;
-			if (line.contains("uses or overrides a deprecated API"))
-				return;
-			if (line.contains("unchecked or unsafe operations"))
-				return;
-			if (line.startsWith("Deprecated Gradle features were used"))
-				return;
-			if (line.startsWith("WARNING: (c) 2020 Microsoft Corporation."))
-				return;
-			if (line.contains("to show the individual deprecation warnings and determine"))
-				return;
-			if (line.contains("#sec:command_line_warnings"))
-				return;
-
-			if (line.startsWith("WARNING: This project is configured to use the official obfuscation")) {
-				append("The code of this workspace uses official obfuscation mappings provided by Mojang. These mappings fall under their associated license you should be fully aware of.",
-						COLOR_LOGLEVEL_WARN);
-				append("(c) 2020 Microsoft Corporation. These mappings are provided \"as-is\" and you bear the risk of using them. You may copy and use the mappings for development purposes,",
-						COLOR_BRACKET);
-				append("but you may not redistribute the mappings complete and unmodified. Microsoft makes no warranties, express or implied, with respect to the mappings provided here.",
-						COLOR_BRACKET);
-				append("Use and modification of this document or the source code (in any form) of Minecraft: Java Edition is governed by the Minecraft End User License Agreement available",
-						COLOR_BRACKET);
-				append("at https://account.mojang.com/documents/minecraft_eula.", COLOR_BRACKET);
-				append(" ");
-				return;
-			}
-
-			if (line.startsWith(":") || line.startsWith(">")) {
-				if (line.contains(" UP-TO-DATE") || line.contains(" NO-SOURCE") || line.contains(" SKIPPED")
-						|| line.contains(" FROM-CACHE"))
-					appendPlainText(line, COLOR_UNIMPORTANT);
-				else
-					appendPlainText(line, Theme.current().getForegroundColor());
-			} else if (line.startsWith("BUILD SUCCESSFUL")) {
-				append(" ");
-				appendPlainText(line, COLOR_TASK_COMPLETE);
-			} else {
-				appendAutoColor(line);
-			}
-		})));
+		task.setStandardOutput(new OutputStreamEventHandler(line -> {
+			taskOutput.appendOutput(line);
+			queueLine(line, ConsoleLineType.ofStandardOutput(line));
+		}));
 
-		task.setStandardError(new OutputStreamEventHandler(line -> SwingUtilities.invokeLater(() -> {
-			taskErr.append(line).append("\n");
-			if (line.startsWith("[")) {
-				appendAutoColor(line);
-			} else {
-				if (line.startsWith("Note: Some input files use or ov"))
-					return;
-				if (line.startsWith("Note: Recompile with -Xlint"))
-					return;
-				if (line.startsWith("Note: Some input files use unch"))
-					return;
-				if (line.contains("uses or overrides a deprecated API"))
-					return;
-				if (line.contains("unchecked or unsafe operations"))
-					return;
-				if (line.startsWith("WARNING: An illegal reflective access"))
-					return;
-				if (line.startsWith("WARNING: Illegal reflective access"))
-					return;
-				if (line.startsWith("WARNING: Please consider reporting this"))
-					return;
-				if (line.startsWith("WARNING: Use --illegal-access=warn to enable"))
-					return;
-				if (line.startsWith("WARNING: All illegal access operations will"))
-					return;
-				if (line.startsWith("SLF4J: "))
-					return;
-
-				append(line, COLOR_STDERR);
-			}
-		})));
+		task.setStandardError(new OutputStreamEventHandler(line -> {
+			taskOutput.appendError(line);
+			queueLine(line, ConsoleLineType.ofStandardError(line));
+		}));
 
 		task.addProgressListener((ProgressListener) event -> ref.statusBar.setGradleMessage(event.getDescription()));
 
@@ -427,9 +383,13 @@ public class GradleConsole extends JPanel {
 			task.addProgressListener(progressListener);
 		}
 
+		outputFlushTimer.start();
+
 		task.run(new ResultHandler<>() {
 			@Override public void onComplete(Void result) {
 				SwingUtilities.invokeLater(() -> {
+					flushOutput(Integer.MAX_VALUE);
+
 					ref.getWorkspace().checkFailingGradleDependenciesAndClear(); // clear flag without checking
 
 					succeed();
@@ -439,25 +399,31 @@ public class GradleConsole extends JPanel {
 
 			@Override public void onFailure(GradleConnectionException failure) {
 				SwingUtilities.invokeLater(() -> {
+					flushOutput(Integer.MAX_VALUE);
+
+					GradleErrorClassifier errors = taskOutput.getErrorClassifier();
+
 					AtomicBoolean errorhandled = new AtomicBoolean(false);
 
 					boolean workspaceReportedFailingGradleDependencies = ref.getWorkspace()
 							.checkFailingGradleDependenciesAndClear();
 
 					if (failure instanceof BuildException) {
-						if (GradleErrorDecoder.doesErrorSuggestRerun(taskErr.toString() + taskOut)) {
+						if (GradleErrorDecoder.doesErrorSuggestRerun(errors)) {
 							if (!rerunFlag) {
 								rerunFlag = true;
 
 								LOG.warn("Gradle task suggested re-run. Attempting re-running task: " + command);
 
+								taskOutput.close();
+
 								// Re-run the same command with the same listener
 								GradleConsole.this.exec(command, taskSpecificListener);
 
 								return;
 							}
 						} else if (workspaceReportedFailingGradleDependencies
-								|| GradleErrorDecoder.isErrorCausedByCorruptedCaches(taskErr.toString() + taskOut)) {
+								|| GradleErrorDecoder.isErrorCausedByCorruptedCaches(errors)) {
 							AtomicBoolean shouldReturn = new AtomicBoolean(false);
 							ThreadUtil.runOnSwingThreadAndWait(() -> {
 								Object[] options = { "Clear Gradle caches", "Clear entire Gradle folder",
@@ -480,10 +446,9 @@ public class GradleConsole extends JPanel {
 
 							if (shouldReturn.get())
 								return;
-						} else if (taskErr.toString().contains("compileJava FAILED") || taskOut.toString()
-								.contains("compileJava FAILED")) {
-							ThreadUtil.runOnSwingThreadAndWait(() -> errorhandled.set(
-									CodeErrorDialog.showCodeErrorDialog(ref, taskErr.toString() + taskOut)));
+						} else if (errors.contains(GradleErrorClassifier.Signature.COMPILE_JAVA_FAILED)) {
+							ThreadUtil.runOnSwingThreadAndWait(
+									() -> errorhandled.set(CodeErrorDialog.showCodeErrorDialog(ref, errors)));
 						}
 						append(" ");
 						append("BUILD FAILED", COLOR_LOGLEVEL_ERROR);
@@ -503,7 +468,7 @@ public class GradleConsole extends JPanel {
 						return;
 					} else {
 						String exception = ExceptionUtils.getFullStackTrace(failure);
-						taskErr.append(exception);
+						taskOutput.appendError(exception);
 
 						Arrays.stream(exception.split("\n")).forEach(line -> {
 							if (!line.trim().isEmpty())
@@ -519,8 +484,7 @@ public class GradleConsole extends JPanel {
 					int resultcode = 0;
 
 					if (!errorhandled.get())
-						resultcode = GradleErrorDecoder.processErrorAndShowMessage(taskOut.toString(),
-								taskErr.toString(), ref);
+						resultcode = GradleErrorDecoder.processErrorAndShowMessage(errors, ref);
 
 					if (resultcode == GradleErrorCodes.STATUS_OK)
 						resultcode = GradleErrorCodes.GRADLE_BUILD_FAILED;
@@ -554,6 +518,9 @@ public class GradleConsole extends JPanel {
 						Color.gray);
 				append(" ");
 
+				outputFlushTimer.stop();
+				taskOutput.close();
+
 				if (taskSpecificListener != null)
 					taskSpecificListener.onTaskFinished(new GradleTaskResult("", mcreatorGradleStatus));
 
@@ -591,6 +558,79 @@ public class GradleConsole extends JPanel {
 		cancellationSource = GradleConnector.newCancellationTokenSource();
 	}
 
+	private void queueLine(String line, ConsoleLineType type) {
+		if (type == ConsoleLineType.HIDDEN)
+			return;
+
+		synchronized (pendingLines) {
+			if (pendingLines.size() >= MAX_PENDING_LINES) {
+				pendingLines.removeFirst();
+				skippedLines++;
+			}
+			pendingLines.addLast(new ConsoleLine(line, type));
+		}
+	}
+
+	/**
+	 * Displays the lines received from Gradle in a single console transaction. Needs to be called on the EDT.
+	 *
+	 * @param maxLines Maximal number of lines to display, the remaining lines are displayed in the next flush
+	 */
+	private void flushOutput(int maxLines) {
+		List<ConsoleLine> lines;
+		int skipped;
+		synchronized (pendingLines) {
+			lines = new ArrayList<>(Math.min(maxLines, pendingLines.size()));
+			while (lines.size() < maxLines && !pendingLines.isEmpty())
+				lines.add(pendingLines.removeFirst());
+
+			skipped = skippedLines;
+			skippedLines = 0;
+		}
+
+		if (lines.isEmpty() && skipped == 0)
+			return;
+
+		pan.beginTransaction();
+		if (skipped > 0) {
+			appendPlainText("... " + skipped + " lines skipped, full log is available in " + logFile,
+					COLOR_UNIMPORTANT);
+		}
+		lines.forEach(this::appendLine);
+		pan.endTransaction();
+
+		pan.limitLength(MAX_CONSOLE_LENGTH);
+
+		scrollToBottom();
+	}
+
+	private void appendLine(ConsoleLine line) {
+		switch (line.type()) {
+		case MAPPINGS_NOTICE -> {
+			append("The code of this workspace uses official obfuscation mappings provided by Mojang. These mappings fall under their associated license you should be fully aware of.",
+					COLOR_LOGLEVEL_WARN);
+			append("(c) 2020 Microsoft Corporation. These mappings are provided \"as-is\" and you bear the risk of using them. You may copy and use the mappings for development purposes,",
+					COLOR_BRACKET);
+			append("but you may not redistribute the mappings complete and unmodified. Microsoft makes no warranties, express or implied, with respect to the mappings provided here.",
+					COLOR_BRACKET);
+			append("Use and modification of this document or the source code (in any form) of Minecraft: Java Edition is governed by the Minecraft End User License Agreement available",
+					COLOR_BRACKET);
+			append("at https://account.mojang.com/documents/minecraft_eula.", COLOR_BRACKET);
+			append(" ");
+		}
+		case TASK -> appendPlainText(line.text(), Theme.current().getForegroundColor());
+		case TASK_UNIMPORTANT -> appendPlainText(line.text(), COLOR_UNIMPORTANT);
+		case BUILD_SUCCESSFUL -> {
+			append(" ");
+			appendPlainText(line.text(), COLOR_TASK_COMPLETE);
+		}
+		case LOG -> appendAutoColor(line.text());
+		case STDERR -> append(line.text(), COLOR_STDERR);
+		}
+	}
+
+	private record ConsoleLine(String text, ConsoleLineType type) {}
+
 	public void append(String text) {
 		append(text, Theme.current().getForegroundColor());
 	}
@@ -0,0 +1,94 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.ui.gradle;
+
+import net.mcreator.gradle.GradleErrorClassifier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Output of a single Gradle task execution. The output is not kept in memory, it is only classified for the Gradle
+ * error decoding and written to the log file.
+ */
+final class GradleTaskOutput {
+
+	private static final Logger LOG = LogManager.getLogger(GradleTaskOutput.class);
+
+	private final GradleErrorClassifier errorClassifier = new GradleErrorClassifier();
+
+	@Nullable private BufferedWriter logWriter;
+
+	GradleTaskOutput(File logFile) {
+		try {
+			Files.createDirectories(logFile.toPath().getParent());
+			logWriter = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			LOG.warn("Failed to create Gradle task log file {}", logFile, e);
+		}
+	}
+
+	void appendOutput(String text) {
+		errorClassifier.acceptOutput(text);
+		log(text);
+	}
+
+	void appendError(String text) {
+		errorClassifier.acceptError(text);
+		log(text);
+	}
+
+	GradleErrorClassifier getErrorClassifier() {
+		return errorClassifier;
+	}
+
+	/**
+	 * Closes the log file. Output appended after the log file is closed is only classified.
+	 */
+	synchronized void close() {
+		if (logWriter != null) {
+			try {
+				logWriter.close();
+			} catch (IOException e) {
+				LOG.warn("Failed to close Gradle task log file", e);
+			}
+			logWriter = null;
+		}
+	}
+
+	private synchronized void log(String text) {
+		if (logWriter != null) {
+			try {
+				logWriter.write(text);
+				logWriter.newLine();
+			} catch (IOException e) {
+				LOG.warn("Failed to write to Gradle task log file", e);
+				close();
+			}
+		}
+	}
+
+}
@@ -41,6 +41,7 @@ import net.mcreator.ui.laf.renderer.AstTreeCellRendererCustom;
 import net.mcreator.ui.laf.themes.Theme;
 import net.mcreator.ui.views.ViewBase;
 import net.mcreator.util.FilenameUtilsPatched;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -605,7 +606,7 @@ public class CodeEditorView extends ViewBase {
 
 				if (n == 0) {
 					this.fileOwner.setCodeLock(true);
-					mcreator.getWorkspace().markDirty();
+					mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 					ro.setVisible(false);
 				} else {
 					setCustomNotice(L10N.t("ide.warnings.created_from_ui", this.fileOwner.getName()));
@@ -20,45 +20,104 @@ package net.mcreator.ui.init;
 
 import net.mcreator.plugin.PluginLoader;
 import net.mcreator.util.FilenameUtilsPatched;
+import net.mcreator.util.image.IconAtlas;
 import net.mcreator.util.image.ImageUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * Icons of data list entries. Only the names of the icon resources are indexed on startup, icons are loaded into
+ * shared 32px atlases on first use.
+ */
 public class BlockItemIcons {
 
+	private static final Logger LOG = LogManager.getLogger(BlockItemIcons.class);
+
+	private static final int ICON_SIZE = 32;
+
+	/**
+	 * Maximal number of resized icons kept in the cache, the least recently used icons are evicted first
+	 */
+	private static final int MAX_RESIZED_ICONS = 1024;
+
+	private static final Map<String, String> RESOURCES = new ConcurrentHashMap<>();
+
 	private static final Map<String, ImageIcon> CACHE = new ConcurrentHashMap<>();
 
+	private static final IconAtlas ATLAS = new IconAtlas(ICON_SIZE, 512);
+
+	private static final Map<ResizedIconKey, ImageIcon> RESIZED_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override protected boolean removeEldestEntry(Map.Entry<ResizedIconKey, ImageIcon> eldest) {
+			return size() > MAX_RESIZED_ICONS;
+		}
+	};
+
 	public static void init() {
-		ImageIO.setUseCache(false); // we use custom image cache for this
-		Map<String, ImageIcon> tmp = PluginLoader.INSTANCE.getResources("datalists.icons", Pattern.compile(".*\\.png"))
-				.parallelStream().collect(Collectors.toMap(
+		RESOURCES.putAll(PluginLoader.INSTANCE.getResources("datalists.icons", Pattern.compile(".*\\.png")).stream()
+				.collect(Collectors.toMap(
 						resource -> FilenameUtilsPatched.removeExtension(FilenameUtilsPatched.getName(resource)),
-						resource -> new ImageIcon(
-								Objects.requireNonNull(PluginLoader.INSTANCE.getResource(resource)))));
-		ImageIO.setUseCache(true);
-		CACHE.putAll(tmp);
+						resource -> resource)));
 	}
 
 	public static ImageIcon getIconForItem(@Nullable String itemName) {
-		if (itemName != null && CACHE.get(itemName) != null) {
-			return CACHE.get(itemName);
-		} else if (itemName != null && itemName.matches("[0-9]+")) {
+		ImageIcon icon = itemName != null ? CACHE.computeIfAbsent(itemName, BlockItemIcons::createIcon) : null;
+		return icon != null ? icon : UIRES.get("missingblockicon");
+	}
+
+	/**
+	 * @param itemName Name of the icon
+	 * @param size     Width and height of the returned icon
+	 * @return Icon resized with antialiasing to the given size, resized icons are cached
+	 */
+	public static ImageIcon getIconForItem(@Nullable String itemName, int size) {
+		ImageIcon icon = getIconForItem(itemName);
+		if (icon.getIconWidth() == size && icon.getIconHeight() == size)
+			return icon;
+
+		synchronized (RESIZED_CACHE) {
+			return RESIZED_CACHE.computeIfAbsent(new ResizedIconKey(icon, size),
+					key -> new ImageIcon(ImageUtils.resizeAA(key.icon().getImage(), key.size())));
+		}
+	}
+
+	@Nullable private static ImageIcon createIcon(String itemName) {
+		String resource = RESOURCES.get(itemName);
+		if (resource != null) {
+			URL url = PluginLoader.INSTANCE.getResource(resource);
+			if (url != null) {
+				try (InputStream inputStream = url.openStream()) {
+					// memory cache is used as the icons are small, ImageIO would cache the stream in a file otherwise
+					BufferedImage image = ImageIO.read(new MemoryCacheImageInputStream(inputStream));
+					if (image != null)
+						return new ImageIcon(ATLAS.add(ImageUtils.resizeAndCrop(image, ICON_SIZE)));
+				} catch (IOException e) {
+					LOG.warn("Failed to load icon " + resource, e);
+				}
+			}
+
+			// do not try to load the icon again
+			RESOURCES.remove(itemName);
+		} else if (itemName.matches("[0-9]+")) {
 			// If itemName is number, consider it color and store it in cache
-			ImageIcon result = ImageUtils.createColorSquare(new Color(Integer.parseInt(itemName)), 32, 32);
-			CACHE.put(itemName, result);
-			return result;
-		} else {
-			return UIRES.get("missingblockicon");
+			return ImageUtils.createColorSquare(new Color(Integer.parseInt(itemName)), ICON_SIZE, ICON_SIZE);
 		}
+		return null;
 	}
 
 	public static ImageIcon getIconFor(String itemName) {
@@ -116,4 +175,6 @@ public class BlockItemIcons {
 	}};
 	//@formatter:on
 
+	private record ResizedIconKey(ImageIcon icon, int size) {}
+
 }
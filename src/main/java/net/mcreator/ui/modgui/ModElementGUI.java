@@ -41,6 +41,7 @@ import net.mcreator.ui.modgui.codeviewer.ModElementCodeViewer;
 import net.mcreator.ui.validation.AggregatedValidationResult;
 import net.mcreator.ui.validation.ValidationGroup;
 import net.mcreator.ui.views.ViewBase;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -523,7 +524,7 @@ public abstract class ModElementGUI<GE extends GeneratableElement> extends ViewB
 		}
 
 		// make sure workspace will also be saved
-		mcreator.getWorkspace().markDirty();
+		mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 
 		// save the GeneratableElement definition
 		mcreator.getModElementManager().storeModElement(element);
@@ -56,6 +56,7 @@ import net.mcreator.ui.workspace.resources.WorkspacePanelResources;
 import net.mcreator.util.ColorUtils;
 import net.mcreator.util.image.EmptyIcon;
 import net.mcreator.util.image.IconUtils;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.FolderElement;
 import net.mcreator.workspace.elements.IElement;
 import net.mcreator.workspace.elements.ModElement;
@@ -204,7 +205,9 @@ import java.util.stream.Collectors;
 						((FolderElement) element).moveTo(mcreator.getWorkspace(), (FolderElement) target);
 					}
 				}
-				mcreator.getWorkspace().markDirty();
+				// folders are stored in the workspace part, parent folders of mod elements with mod elements
+				mcreator.getWorkspace().markDirty(Workspace.Part.WORKSPACE);
+				mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 				sectionTabs.get("mods").reloadElements();
 			} else {
 				Toolkit.getDefaultToolkit().beep();
@@ -988,7 +991,7 @@ import java.util.stream.Collectors;
 				modElement.getType().getModElementStorageClass())) {
 			ModElement modified = ModElementIDsDialog.openModElementIDDialog(mcreator, ((ModElement) mu));
 			if (modified != null)
-				mcreator.getWorkspace().markDirty();
+				mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 		} else {
 			JOptionPane.showMessageDialog(mcreator,
 					L10N.t("workspace.elements.edit_registry_names.not_possible_message"),
@@ -1019,7 +1022,7 @@ import java.util.stream.Collectors;
 							mu.setCodeLock(true);
 						}
 
-						mcreator.getWorkspace().markDirty();
+						mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 					}
 				});
 				reloadElementsInCurrentTab();
@@ -1250,7 +1253,7 @@ import java.util.stream.Collectors;
 
 		if (name != null) {
 			currentFolder.addChild(new FolderElement(name, currentFolder));
-			mcreator.getWorkspace().markDirty();
+			mcreator.getWorkspace().markDirty(Workspace.Part.WORKSPACE);
 			sectionTabs.get("mods").reloadElements();
 		}
 	}
@@ -1261,7 +1264,8 @@ import java.util.stream.Collectors;
 		if (newName != null) {
 			selected.setName(mcreator.getWorkspace(), newName);
 
-			mcreator.getWorkspace().markDirty();
+			mcreator.getWorkspace().markDirty(Workspace.Part.WORKSPACE);
+			mcreator.getWorkspace().markDirty(Workspace.Part.MOD_ELEMENTS);
 			sectionTabs.get("mods").reloadElements();
 		}
 	}
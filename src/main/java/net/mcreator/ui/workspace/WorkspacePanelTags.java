@@ -40,6 +40,7 @@ import net.mcreator.ui.init.L10N;
 import net.mcreator.ui.init.UIRES;
 import net.mcreator.ui.laf.themes.Theme;
 import net.mcreator.ui.minecraft.*;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.TagElement;
 
 import javax.swing.*;
@@ -381,7 +382,7 @@ public class WorkspacePanelTags extends AbstractWorkspacePanel {
 			ArrayList<String> newValue = (ArrayList<String>) getCellEditorValue();
 			if (newValue != null) {
 				workspacePanel.getMCreator().getWorkspace().getTagElements().put(tagElement, newValue);
-				workspacePanel.getMCreator().getWorkspace().markDirty();
+				workspacePanel.getMCreator().getWorkspace().markDirty(Workspace.Part.TAG_ELEMENTS);
 			}
 
 			return super.stopCellEditing();
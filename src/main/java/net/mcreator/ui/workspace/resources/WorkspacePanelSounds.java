@@ -25,6 +25,7 @@ import net.mcreator.ui.init.L10N;
 import net.mcreator.ui.init.UIRES;
 import net.mcreator.ui.laf.themes.Theme;
 import net.mcreator.ui.workspace.WorkspacePanel;
+import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
 import net.mcreator.workspace.elements.SoundElement;
 import net.mcreator.workspace.references.ReferencesFinder;
@@ -63,7 +64,7 @@ public class WorkspacePanelSounds extends AbstractResourcePanel<SoundElement> {
 	private void editSelectedSound(SoundElement selectedValue) {
 		if (selectedValue != null) {
 			SoundElementDialog.soundDialog(workspacePanel.getMCreator(), selectedValue, null);
-			workspacePanel.getMCreator().getWorkspace().markDirty();
+			workspacePanel.getMCreator().getWorkspace().markDirty(Workspace.Part.WORKSPACE);
 			reloadElements();
 		}
 	}
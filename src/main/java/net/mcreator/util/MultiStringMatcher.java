@@ -0,0 +1,162 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.util;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton that finds occurrences of multiple strings in a single pass over the text.
+ * <p>
+ * The text is fed to the matcher one character at a time through {@link #nextState(int, char)}, so the text can be
+ * matched while it is being received. Matcher is immutable and can be shared between threads.
+ */
+public final class MultiStringMatcher {
+
+	private static final int INITIAL_STATE = 0;
+
+	private final char[][] transitionChars;
+	private final int[][] transitionTargets;
+	private final int[] failure;
+	private final int[][] matches;
+
+	private final int[] lengths;
+
+	/**
+	 * @param strings Strings to find, indices of strings in this list are reported as matches
+	 */
+	public MultiStringMatcher(List<String> strings) {
+		List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+		List<List<Integer>> outputs = new ArrayList<>();
+		transitions.add(new TreeMap<>());
+		outputs.add(new ArrayList<>());
+
+		lengths = new int[strings.size()];
+		for (int i = 0; i < strings.size(); i++) {
+			String string = strings.get(i);
+			if (string.isEmpty())
+				throw new IllegalArgumentException("Matched strings can not be empty");
+
+			int state = INITIAL_STATE;
+			for (char c : string.toCharArray()) {
+				Integer target = transitions.get(state).get(c);
+				if (target == null) {
+					target = transitions.size();
+					transitions.add(new TreeMap<>());
+					outputs.add(new ArrayList<>());
+					transitions.get(state).put(c, target);
+				}
+				state = target;
+			}
+			outputs.get(state).add(i);
+			lengths[i] = string.length();
+		}
+
+		int states = transitions.size();
+		transitionChars = new char[states][];
+		transitionTargets = new int[states][];
+		for (int state = 0; state < states; state++) {
+			TreeMap<Character, Integer> stateTransitions = transitions.get(state);
+			transitionChars[state] = new char[stateTransitions.size()];
+			transitionTargets[state] = new int[stateTransitions.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+				transitionChars[state][i] = transition.getKey();
+				transitionTargets[state][i] = transition.getValue();
+				i++;
+			}
+		}
+
+		// failure links are computed breadth-first, so the failure state of each state is already complete
+		failure = new int[states];
+		Deque<Integer> queue = new ArrayDeque<>(transitions.get(INITIAL_STATE).values());
+		while (!queue.isEmpty()) {
+			int state = queue.removeFirst();
+			for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+				int target = transition.getValue();
+				int fallback = failure[state];
+				int fallbackTarget;
+				while ((fallbackTarget = transition(fallback, transition.getKey())) == -1 && fallback != INITIAL_STATE)
+					fallback = failure[fallback];
+				failure[target] = fallbackTarget == -1 ? INITIAL_STATE : fallbackTarget;
+				outputs.get(target).addAll(outputs.get(failure[target]));
+				queue.addLast(target);
+			}
+		}
+
+		matches = new int[states][];
+		for (int state = 0; state < states; state++)
+			matches[state] = outputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * @return State of the matcher before any character is read
+	 */
+	public int initialState() {
+		return INITIAL_STATE;
+	}
+
+	/**
+	 * @param state State of the matcher after reading the previous character
+	 * @param c     Next character of the text
+	 * @return State of the matcher after reading the given character
+	 */
+	public int nextState(int state, char c) {
+		while (true) {
+			int target = transition(state, c);
+			if (target != -1)
+				return target;
+			else if (state == INITIAL_STATE)
+				return INITIAL_STATE;
+			state = failure[state];
+		}
+	}
+
+	/**
+	 * @param state    State of the matcher after reading a character
+	 * @param consumer Consumer of indices of strings that end with the last read character
+	 */
+	public void forEachMatch(int state, IntConsumer consumer) {
+		for (int match : matches[state])
+			consumer.accept(match);
+	}
+
+	/**
+	 * @param state State of the matcher after reading a character
+	 * @return true if any of the strings ends with the last read character
+	 */
+	public boolean hasMatches(int state) {
+		return matches[state].length > 0;
+	}
+
+	/**
+	 * @param index Index of the string
+	 * @return Length of the string with the given index
+	 */
+	public int getLength(int index) {
+		return lengths[index];
+	}
+
+	private int transition(int state, char c) {
+		int i = Arrays.binarySearch(transitionChars[state], c);
+		return i < 0 ? -1 : transitionTargets[state][i];
+	}
+
+}
@@ -18,15 +18,92 @@
 
 package net.mcreator.util;
 
+import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
 public class XMLUtil {
 
+	// factory lookup is expensive and builders are not thread-safe, so each thread reuses its own instances
+	private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+		try {
+			return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		} catch (ParserConfigurationException e) {
+			throw new IllegalStateException("Failed to create XML document builder", e);
+		}
+	});
+
+	private static final ThreadLocal<Transformer> TRANSFORMER = ThreadLocal.withInitial(() -> {
+		try {
+			return TransformerFactory.newInstance().newTransformer();
+		} catch (TransformerConfigurationException e) {
+			throw new IllegalStateException("Failed to create XML transformer", e);
+		}
+	});
+
+	/**
+	 * Parses the given XML (e.g. Blockly XML) using the document builder of the current thread
+	 *
+	 * @param xml XML to parse
+	 * @return Parsed document
+	 * @throws SAXException if the XML is not valid
+	 * @throws IOException  if the XML could not be read
+	 */
+	public static Document parseXML(String xml) throws SAXException, IOException {
+		DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+		documentBuilder.reset();
+		return documentBuilder.parse(new InputSource(new StringReader(xml)));
+	}
+
+	/**
+	 * Serializes the given node to XML using the transformer of the current thread
+	 *
+	 * @param node Node (e.g. document) to serialize
+	 * @return XML of the node
+	 * @throws TransformerException if the node could not be serialized
+	 */
+	public static String toXMLString(Node node) throws TransformerException {
+		return toXMLString(node, false);
+	}
+
+	/**
+	 * Serializes the given node to XML using the transformer of the current thread
+	 *
+	 * @param node               Node (e.g. element) to serialize
+	 * @param omitXMLDeclaration true if the XML declaration should be left out, e.g. when the XML is inserted into
+	 *                           other XML
+	 * @return XML of the node
+	 * @throws TransformerException if the node could not be serialized
+	 */
+	public static String toXMLString(Node node, boolean omitXMLDeclaration) throws TransformerException {
+		Transformer transformer = TRANSFORMER.get();
+		transformer.reset();
+		if (omitXMLDeclaration)
+			transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+		StringWriter writer = new StringWriter();
+		transformer.transform(new DOMSource(node), new StreamResult(writer));
+		return writer.getBuffer().toString();
+	}
+
 	/**
 	 * Returns a list of all child elements of the given element with the given name
 	 *
@@ -0,0 +1,77 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.util.image;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores square icons of the same size in shared atlas images instead of each icon in its own image. Atlas pages are
+ * allocated as icons are added.
+ * <p>
+ * Icons are never removed from the atlas, so the images returned by {@link #add(Image)} stay valid.
+ */
+public final class IconAtlas {
+
+	private final int iconSize;
+	private final int pageSize;
+	private final int iconsPerRow;
+
+	private final List<BufferedImage> pages = new ArrayList<>();
+	private int icons = 0;
+
+	/**
+	 * @param iconSize Width and height of the icons
+	 * @param pageSize Width and height of each atlas page, multiple of the icon size
+	 */
+	public IconAtlas(int iconSize, int pageSize) {
+		if (pageSize < iconSize || pageSize % iconSize != 0)
+			throw new IllegalArgumentException("Page size must be a multiple of the icon size");
+
+		this.iconSize = iconSize;
+		this.pageSize = pageSize;
+		this.iconsPerRow = pageSize / iconSize;
+	}
+
+	/**
+	 * @param icon Icon to add, scaled to the icon size of this atlas if it is of a different size
+	 * @return Image backed by the atlas page the icon was added to
+	 */
+	public synchronized BufferedImage add(Image icon) {
+		int slot = icons % (iconsPerRow * iconsPerRow);
+		if (slot == 0)
+			pages.add(new BufferedImage(pageSize, pageSize, BufferedImage.TYPE_INT_ARGB));
+		icons++;
+
+		int x = slot % iconsPerRow * iconSize;
+		int y = slot / iconsPerRow * iconSize;
+
+		BufferedImage page = pages.get(pages.size() - 1);
+		Graphics2D graphics = page.createGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.drawImage(icon, x, y, iconSize, iconSize, null);
+		graphics.dispose();
+
+		return page.getSubimage(x, y, iconSize, iconSize);
+	}
+
+}
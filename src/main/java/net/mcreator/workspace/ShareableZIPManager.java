@@ -103,7 +103,7 @@ public class ShareableZIPManager {
 				}
 
 				// make sure we store any potential changes made to the workspace
-				workspace.markDirty();
+				workspace.markDirty(Workspace.Part.MOD_ELEMENTS);
 			} catch (UnsupportedGeneratorException | MissingGeneratorFeaturesException e) {
 				// Exception that already prompted user action resulting in us landing here happened before
 				// So we just cancel the import at this point by returning null
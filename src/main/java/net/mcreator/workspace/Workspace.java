@@ -19,12 +19,12 @@
 package net.mcreator.workspace;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import net.mcreator.Launcher;
-import net.mcreator.element.ModElementType;
 import net.mcreator.generator.*;
 import net.mcreator.generator.setup.WorkspaceGeneratorSetup;
 import net.mcreator.gradle.GradleCacheImportFailedException;
-import net.mcreator.io.FileIO;
 import net.mcreator.ui.component.util.ThreadUtil;
 import net.mcreator.ui.dialogs.workspace.GeneratorSelector;
 import net.mcreator.ui.dialogs.workspace.WorkspaceDialogs;
@@ -39,9 +39,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.*;
 import java.awt.*;
-import java.io.Closeable;
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -65,8 +64,16 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	private WorkspaceSettings workspaceSettings;
 	private long mcreatorVersion;
 
+	// set to true if the parts of the workspace are stored in separate files, see WorkspaceFileManager
+	@Nullable private Boolean sharded_storage;
+
 	// transient fields
 	private transient boolean changed = false;
+	private final transient Set<Part> dirtyParts = ConcurrentHashMap.newKeySet();
+
+	// name indices of mod and variable elements, built on first lookup as element sets are filled by deserialization
+	@Nullable private transient volatile Map<String, ModElement> modElementsByName;
+	@Nullable private transient volatile Map<String, VariableElement> variableElementsByName;
 	protected transient WorkspaceFileManager fileManager;
 	protected transient Generator generator;
 	private transient boolean regenerateRequired = false;
@@ -89,7 +96,7 @@ public class Workspace implements Closeable, IGeneratorProvider {
 
 	public void setWorkspaceSettings(WorkspaceSettings workspaceSettings) {
 		this.workspaceSettings = workspaceSettings;
-		markDirty();
+		markDirty(Part.WORKSPACE);
 	}
 
 	/**
@@ -130,33 +137,65 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	}
 
 	public boolean containsModElement(String elementName) {
-		// We create "dummy" mod element for contains check since hashcode of ME is only based on its name
-		return mod_elements.contains(new ModElement(this, elementName, ModElementType.UNKNOWN));
+		return elementName != null && getModElementsByName().containsKey(elementName);
 	}
 
 	public ModElement getModElementByName(String elementName) {
-		return mod_elements.parallelStream().filter(element -> element.getName().equals(elementName)).findFirst()
-				.orElse(null);
+		return elementName != null ? getModElementsByName().get(elementName) : null;
 	}
 
 	public VariableElement getVariableElementByName(String elementName) {
-		return variable_elements.parallelStream().filter(element -> element.getName().equals(elementName)).findFirst()
-				.orElse(null);
+		return elementName != null ? getVariableElementsByName().get(elementName) : null;
+	}
+
+	private Map<String, ModElement> getModElementsByName() {
+		Map<String, ModElement> index = modElementsByName;
+		if (index == null) {
+			// element set is locked while building, so no element can be added or removed in the meantime
+			synchronized (mod_elements) {
+				index = modElementsByName;
+				if (index == null) {
+					index = new ConcurrentHashMap<>();
+					for (ModElement element : mod_elements)
+						if (element.getName() != null)
+							index.put(element.getName(), element);
+					modElementsByName = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	private Map<String, VariableElement> getVariableElementsByName() {
+		Map<String, VariableElement> index = variableElementsByName;
+		if (index == null) {
+			synchronized (variable_elements) {
+				index = variableElementsByName;
+				if (index == null) {
+					index = new ConcurrentHashMap<>();
+					for (VariableElement element : variable_elements)
+						if (element.getName() != null)
+							index.put(element.getName(), element);
+					variableElementsByName = index;
+				}
+			}
+		}
+		return index;
 	}
 
 	public void resetModElementCompilesStatus() {
 		mod_elements.parallelStream().forEach(el -> el.setCompiles(true));
-		markDirty();
+		markDirty(Part.MOD_ELEMENTS);
 	}
 
 	public void addLanguage(String language, ConcurrentHashMap<String, String> data) {
 		language_map.putIfAbsent(language, data);
-		markDirty();
+		markDirty(Part.LANGUAGE_MAP);
 	}
 
 	public void updateLanguage(String language, ConcurrentHashMap<String, String> data) {
 		language_map.put(language, data);
-		markDirty();
+		markDirty(Part.LANGUAGE_MAP);
 	}
 
 	public void setLocalization(String key, String value) {
@@ -166,28 +205,32 @@ public class Workspace implements Closeable, IGeneratorProvider {
 		// add localization to others if existing if there is not existing definition present
 		for (Map.Entry<String, ConcurrentHashMap<String, String>> entry : language_map.entrySet())
 			entry.getValue().putIfAbsent(key, value);
-		markDirty();
+		markDirty(Part.LANGUAGE_MAP);
 	}
 
 	public void removeLocalizationEntryByKey(String key) {
 		for (Map.Entry<String, ConcurrentHashMap<String, String>> entry : language_map.entrySet())
 			entry.getValue().remove(key);
 
-		markDirty();
+		markDirty(Part.LANGUAGE_MAP);
 	}
 
 	public void removeLocalizationLanguage(String language) {
 		if (language.equals("en_us"))
 			return;
 		language_map.remove(language);
-		markDirty();
+		markDirty(Part.LANGUAGE_MAP);
 	}
 
 	public void addModElement(ModElement element) {
 		if (!mod_elements.contains(element)) { // only add this mod element if it is not already added
 			element.reinit(this); // if it is new element, it now probably has icons so we reinit modicons
-			mod_elements.add(element);
-			markDirty();
+			synchronized (mod_elements) {
+				mod_elements.add(element);
+				if (modElementsByName != null)
+					modElementsByName.put(element.getName(), element);
+			}
+			markDirty(Part.MOD_ELEMENTS);
 		} else {
 			LOG.warn(
 					"Trying to add existing mod element: " + element.getName() + " of type " + element.getTypeString());
@@ -196,8 +239,12 @@ public class Workspace implements Closeable, IGeneratorProvider {
 
 	public void addVariableElement(VariableElement element) {
 		if (!variable_elements.contains(element)) {
-			variable_elements.add(element);
-			markDirty();
+			synchronized (variable_elements) {
+				variable_elements.add(element);
+				if (variableElementsByName != null)
+					variableElementsByName.put(element.getName(), element);
+			}
+			markDirty(Part.VARIABLE_ELEMENTS);
 		} else {
 			LOG.warn("Trying to add existing variable element: " + element.getName());
 		}
@@ -206,7 +253,7 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	public void addTagElement(TagElement element) {
 		if (!tag_elements.containsKey(element)) {
 			tag_elements.put(element, new ArrayList<>());
-			markDirty();
+			markDirty(Part.TAG_ELEMENTS);
 		} else {
 			LOG.warn("Trying to add existing tag element: " + element.getName());
 		}
@@ -215,7 +262,7 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	public void addSoundElement(SoundElement element) {
 		if (!sound_elements.contains(element)) {
 			sound_elements.add(element);
-			markDirty();
+			markDirty(Part.WORKSPACE);
 		} else {
 			LOG.warn("Trying to add existing sound element: " + element.getName());
 		}
@@ -228,14 +275,22 @@ public class Workspace implements Closeable, IGeneratorProvider {
 		fileManager.getModElementManager().removeModElement(element);
 
 		// finally remove element form the list
-		mod_elements.remove(element);
+		synchronized (mod_elements) {
+			mod_elements.remove(element);
+			if (modElementsByName != null && element.getName() != null)
+				modElementsByName.remove(element.getName());
+		}
 
-		markDirty();
+		markDirty(Part.MOD_ELEMENTS);
 	}
 
 	public void removeVariableElement(VariableElement element) {
-		variable_elements.remove(element);
-		markDirty();
+		synchronized (variable_elements) {
+			variable_elements.remove(element);
+			if (variableElementsByName != null)
+				variableElementsByName.remove(element.getName());
+		}
+		markDirty(Part.VARIABLE_ELEMENTS);
 	}
 
 	public void removeTagElement(TagElement element) {
@@ -246,19 +301,19 @@ public class Workspace implements Closeable, IGeneratorProvider {
 			tagFile.delete();
 		}
 
-		markDirty();
+		markDirty(Part.TAG_ELEMENTS);
 	}
 
 	public void removeSoundElement(SoundElement element) {
 		element.getFiles()
 				.forEach(file -> new File(fileManager.getFolderManager().getSoundsDir(), file + ".ogg").delete());
 		sound_elements.remove(element);
-		markDirty();
+		markDirty(Part.WORKSPACE);
 	}
 
 	public void setMCreatorVersion(long mcreatorVersion) {
 		this.mcreatorVersion = mcreatorVersion;
-		markDirty();
+		markDirty(Part.WORKSPACE);
 	}
 
 	public long getMCreatorVersion() {
@@ -293,17 +348,75 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	}
 
 	public void markDirty() {
+		dirtyParts.addAll(EnumSet.allOf(Part.class));
 		changed = true;
 	}
 
-	void markClean() {
-		changed = false;
+	/**
+	 * Marks only the given part of the workspace as changed, so only this part needs to be stored when the sharded
+	 * workspace storage is used.
+	 *
+	 * @param part Part of the workspace that was changed
+	 */
+	public void markDirty(Part part) {
+		dirtyParts.add(part);
+		changed = true;
 	}
 
 	boolean isDirty() {
 		return changed;
 	}
 
+	/**
+	 * Marks the workspace as clean and returns the parts that were changed since the last call
+	 *
+	 * @return Parts of the workspace that need to be stored
+	 */
+	Set<Part> pollDirtyParts() {
+		changed = false;
+
+		Set<Part> retval = EnumSet.noneOf(Part.class);
+		for (Part part : Part.values()) {
+			if (dirtyParts.remove(part))
+				retval.add(part);
+		}
+		return retval;
+	}
+
+	boolean isShardedStorage() {
+		return sharded_storage != null && sharded_storage;
+	}
+
+	void setShardedStorage(boolean shardedStorage) {
+		this.sharded_storage = shardedStorage ? true : null;
+	}
+
+	Object getPartData(Part part) {
+		return switch (part) {
+			case WORKSPACE -> this;
+			case MOD_ELEMENTS -> mod_elements;
+			case VARIABLE_ELEMENTS -> variable_elements;
+			case TAG_ELEMENTS -> tag_elements;
+			case LANGUAGE_MAP -> language_map;
+		};
+	}
+
+	@SuppressWarnings("unchecked") void setPartData(Part part, Object data) {
+		switch (part) {
+		case MOD_ELEMENTS -> {
+			mod_elements = Collections.synchronizedSet((Set<ModElement>) data);
+			modElementsByName = null;
+		}
+		case VARIABLE_ELEMENTS -> {
+			variable_elements = Collections.synchronizedSet((Set<VariableElement>) data);
+			variableElementsByName = null;
+		}
+		case TAG_ELEMENTS -> tag_elements = (ConcurrentHashMap<TagElement, ArrayList<String>>) data;
+		case LANGUAGE_MAP -> language_map = (ConcurrentHashMap<String, ConcurrentHashMap<String, String>>) data;
+		case WORKSPACE -> throw new IllegalArgumentException("Workspace part can not be replaced");
+		}
+	}
+
 	/**
 	 * @apiNote This method performs sensitive operations on this workspace. Avoid using it!
 	 */
@@ -371,10 +484,9 @@ public class Workspace implements Closeable, IGeneratorProvider {
 			throws UnsupportedGeneratorException, CorruptedWorkspaceFileException, FileNotFoundException,
 			MissingGeneratorFeaturesException {
 		if (workspaceFile.isFile()) {
-			String workspace_string = FileIO.readFileToString(workspaceFile);
 			Workspace retval;
 			try {
-				retval = WorkspaceFileManager.gson.fromJson(workspace_string, Workspace.class);
+				retval = readWorkspaceFile(workspaceFile);
 				retval.fileManager = new WorkspaceFileManager(workspaceFile, retval);
 			} catch (Exception e) {
 				throw new CorruptedWorkspaceFileException(e);
@@ -468,7 +580,12 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	 */
 	@VisibleForTesting public static Workspace readFromFSUnsafe(File workspaceFile,
 			GeneratorConfiguration generatorConfiguration) throws MissingGeneratorFeaturesException {
-		Workspace retval = WorkspaceFileManager.gson.fromJson(FileIO.readFileToString(workspaceFile), Workspace.class);
+		Workspace retval;
+		try {
+			retval = readWorkspaceFile(workspaceFile);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 		retval.fileManager = new WorkspaceFileManager(workspaceFile, retval);
 
 		if (Generator.GENERATOR_CACHE.get(retval.getWorkspaceSettings().getCurrentGenerator())
@@ -497,6 +614,26 @@ public class Workspace implements Closeable, IGeneratorProvider {
 		return retval;
 	}
 
+	/**
+	 * Deserializes the workspace file directly from the file stream, so the whole workspace file does not need to be
+	 * read into memory first. Generatable elements are not loaded here, they are loaded on demand by ModElementManager.
+	 * If the workspace uses sharded storage, parts stored in separate files are loaded too.
+	 *
+	 * @param workspaceFile File containing the workspace definition
+	 * @return Deserialized workspace without transient fields initialized
+	 * @throws IOException If the workspace file could not be read or does not contain a workspace definition
+	 */
+	private static Workspace readWorkspaceFile(File workspaceFile) throws IOException {
+		try (JsonReader jsonReader = WorkspaceFileManager.gson.newJsonReader(new BufferedReader(
+				new InputStreamReader(new FileInputStream(workspaceFile), StandardCharsets.UTF_8)))) {
+			Workspace retval = WorkspaceFileManager.gson.fromJson(jsonReader, Workspace.class);
+			if (retval == null)
+				throw new IOException("Workspace file " + workspaceFile + " is empty");
+			WorkspaceFileManager.readShards(retval, workspaceFile);
+			return retval;
+		}
+	}
+
 	public static Workspace createWorkspace(File workspaceFile, WorkspaceSettings workspaceSettings) {
 		Workspace retval = new Workspace(workspaceSettings);
 		workspaceFile.getParentFile().mkdirs();
@@ -514,6 +651,39 @@ public class Workspace implements Closeable, IGeneratorProvider {
 		return regenerateRequired;
 	}
 
+	/**
+	 * Parts of the workspace definition that are tracked as changed separately. With the sharded workspace storage,
+	 * all parts except for {@link #WORKSPACE} are stored in separate files.
+	 */
+	public enum Part {
+		WORKSPACE(null, null),
+		MOD_ELEMENTS("mod_elements", new TypeToken<LinkedHashSet<ModElement>>() {}.getType()),
+		VARIABLE_ELEMENTS("variable_elements", new TypeToken<LinkedHashSet<VariableElement>>() {}.getType()),
+		TAG_ELEMENTS("tag_elements", new TypeToken<ConcurrentHashMap<TagElement, ArrayList<String>>>() {}.getType()),
+		LANGUAGE_MAP("language_map",
+				new TypeToken<ConcurrentHashMap<String, ConcurrentHashMap<String, String>>>() {}.getType());
+
+		@Nullable private final String fieldName;
+		@Nullable private final java.lang.reflect.Type dataType;
+
+		Part(@Nullable String fieldName, @Nullable java.lang.reflect.Type dataType) {
+			this.fieldName = fieldName;
+			this.dataType = dataType;
+		}
+
+		/**
+		 * @return Name of the workspace field holding this part or null for the main workspace part
+		 */
+		@Nullable public String getFieldName() {
+			return fieldName;
+		}
+
+		@Nullable java.lang.reflect.Type getDataType() {
+			return dataType;
+		}
+
+	}
+
 	// Below are methods that may still be used by some plugins
 
 	/**
@@ -523,6 +693,8 @@ public class Workspace implements Closeable, IGeneratorProvider {
 	@SuppressWarnings("unused") public void loadStoredDataFrom(Workspace other) {
 		this.mod_elements = other.mod_elements;
 		this.variable_elements = other.variable_elements;
+		this.modElementsByName = null;
+		this.variableElementsByName = null;
 		this.sound_elements = other.sound_elements;
 		this.tag_elements = other.tag_elements;
 		this.language_map = other.language_map;
@@ -18,8 +18,11 @@
 
 package net.mcreator.workspace;
 
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
 import net.mcreator.io.FileIO;
 import net.mcreator.plugin.MCREvent;
 import net.mcreator.plugin.events.workspace.WorkspaceSavedEvent;
@@ -32,9 +35,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
-import java.io.Closeable;
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
@@ -53,6 +55,32 @@ public class WorkspaceFileManager implements Closeable {
 			.registerTypeAdapter(TagElement.class, new TagElement.TagElementDeserializer())
 			.registerTypeAdapter(ModElement.class, new ModElement.ModElementDeserializer()).create();
 
+	/**
+	 * Gson used to serialize the main workspace file of the sharded workspace storage, which does not include the parts
+	 * stored in separate files
+	 */
+	private static final Gson shardedGson = gson.newBuilder().setExclusionStrategies(new ExclusionStrategy() {
+		@Override public boolean shouldSkipField(FieldAttributes f) {
+			return f.getDeclaringClass() == Workspace.class && Arrays.stream(Workspace.Part.values())
+					.anyMatch(part -> f.getName().equals(part.getFieldName()));
+		}
+
+		@Override public boolean shouldSkipClass(Class<?> clazz) {
+			return false;
+		}
+	}).create();
+
+	/**
+	 * Folder with the workspace parts of the sharded workspace storage, next to the workspace file. The parts are not
+	 * stored in the workspace cache folder, as they are part of the workspace and have to be shared along with it.
+	 */
+	private static final String SHARDS_PATH = "workspaceParts/";
+
+	/**
+	 * Marker file identifying the shards folder as created by MCreator, so only such folder is ever deleted
+	 */
+	private static final String SHARDS_MARKER = ".mcreator-workspace-parts";
+
 	private DataSavedListener dataSavedListener;
 
 	private final ScheduledExecutorService dataSaveExecutor = Executors.newScheduledThreadPool(1);
@@ -91,6 +119,7 @@ public class WorkspaceFileManager implements Closeable {
 
 	@Override public void close() {
 		saveWorkspaceDirectlyAndWait(); // save workspace to FS
+		modElementManager.getReferencesIndex().save();
 		lastSchedule.cancel(true); // we stop autosaving for this workspace after it is done
 	}
 
@@ -114,33 +143,46 @@ public class WorkspaceFileManager implements Closeable {
 		if (!workspace.isDirty()) // if the workspace file was not changed, we do not perform save
 			return;
 
-		String workspacestring = gson.toJson(workspace);
+		// once we take the changed parts, we mark workspace as not changed as the current version will be on the FS
+		Set<Workspace.Part> dirtyParts = workspace.pollDirtyParts();
+
+		boolean storedSharded = workspace.isShardedStorage();
+		boolean sharded = PreferencesManager.PREFERENCES.workspace.shardedWorkspaceStorage.get();
+		if (sharded != storedSharded) { // storage format changed, so all parts need to be stored
+			workspace.setShardedStorage(sharded);
+			dirtyParts = EnumSet.allOf(Workspace.Part.class);
+		}
+
+		String workspacestring = (sharded ? shardedGson : gson).toJson(workspace);
 		if (workspacestring != null && !workspacestring.isEmpty()) {
 			MCREvent.event(new WorkspaceSavedEvent.BeforeSaving(workspace));
 
-			// first we backup workspace file
-			rotateWorkspaceFileBackup();
+			// first we backup workspace file, in the format it is currently stored in
+			rotateWorkspaceFileBackup(storedSharded);
 
-			// We do an "atomic" write to the FS
-			File outFile = workspaceFile;
-			File tmpFile = new File(folderManager.getWorkspaceFolder(), workspaceFile.getName() + ".lock");
-			FileIO.writeStringToFile(workspacestring, tmpFile);
-			try {
-				Files.move(tmpFile.toPath(), outFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
-			} catch (Exception e) {
-				LOG.info("Failed to do atomic move, trying normal move!");
-				try {
-					Files.move(tmpFile.toPath(), outFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
-							StandardCopyOption.COPY_ATTRIBUTES);
-				} catch (IOException e1) {
-					LOG.error(e1.getMessage(), e1);
-					LOG.error("Falling back to normal write (non atomic, without move!)");
-					FileIO.writeStringToFile(workspacestring, outFile);
+			File shardsDir = getShardsDir(workspaceFile);
+			if (sharded) {
+				createShardsMarker(shardsDir);
+
+				for (Workspace.Part part : Workspace.Part.values()) {
+					if (part.getDataType() == null)
+						continue;
+
+					File shardFile = getShardFile(shardsDir, part);
+					if (dirtyParts.contains(part) || !shardFile.isFile())
+						writeAtomically(gson.toJson(workspace.getPartData(part), part.getDataType()), shardFile);
 				}
-			}
 
-			workspace.markClean(); // once the data is saved,
-			// we mark workspace as not changed as the current version is on the FS
+				// main file is stored last, so it only marks the workspace as sharded once all parts are stored
+				if (dirtyParts.contains(Workspace.Part.WORKSPACE))
+					writeAtomically(workspacestring, workspaceFile);
+			} else {
+				writeAtomically(workspacestring, workspaceFile);
+
+				// workspace file now contains all parts, so the sharded parts are not needed anymore
+				if (new File(shardsDir, SHARDS_MARKER).isFile())
+					FileIO.deleteDir(shardsDir);
+			}
 
 			if (dataSavedListener != null)
 				dataSavedListener.dataSaved();
@@ -150,10 +192,102 @@ public class WorkspaceFileManager implements Closeable {
 			LOG.debug("Workspace stored on the FS");
 		} else {
 			LOG.error("Skipping workspace save. Workspace is defined but we failed to serialize it!");
+			dirtyParts.forEach(workspace::markDirty);
 		}
 	}
 
-	private void rotateWorkspaceFileBackup() {
+	/**
+	 * Writes the file to a temporary file first and then moves it in place. This way, the file is never partially
+	 * written and the previous version of the file stays intact in hard-linked backups.
+	 */
+	private void writeAtomically(String contents, File outFile) {
+		File tmpFile = new File(outFile.getParentFile(), outFile.getName() + ".lock");
+		FileIO.writeStringToFile(contents, tmpFile);
+		try {
+			Files.move(tmpFile.toPath(), outFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOG.info("Failed to do atomic move, trying normal move!");
+			try {
+				Files.move(tmpFile.toPath(), outFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.COPY_ATTRIBUTES);
+			} catch (IOException e1) {
+				LOG.error(e1.getMessage(), e1);
+				LOG.error("Falling back to replacing the file (non atomic)");
+				// old file is removed instead of written in place, so hard-linked backups keep the old contents
+				outFile.delete();
+				if (!tmpFile.renameTo(outFile)) {
+					FileIO.writeStringToFile(contents, outFile);
+					tmpFile.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads the parts of the workspace that are stored in separate files if the workspace uses sharded storage
+	 *
+	 * @param workspace     Workspace deserialized from the main workspace file
+	 * @param workspaceFile Main workspace file
+	 * @throws IOException If any of the parts could not be loaded
+	 */
+	static void readShards(Workspace workspace, File workspaceFile) throws IOException {
+		if (!workspace.isShardedStorage())
+			return;
+
+		File shardsDir = getShardsDir(workspaceFile);
+		for (Workspace.Part part : Workspace.Part.values()) {
+			if (part.getDataType() == null)
+				continue;
+
+			File shardFile = getShardFile(shardsDir, part);
+			try (JsonReader jsonReader = gson.newJsonReader(new BufferedReader(
+					new InputStreamReader(new FileInputStream(shardFile), StandardCharsets.UTF_8)))) {
+				Object data = gson.fromJson(jsonReader, part.getDataType());
+				if (data == null)
+					throw new IOException("Workspace part file " + shardFile + " is empty");
+				workspace.setPartData(part, data);
+			}
+		}
+	}
+
+	/**
+	 * Restores the workspace from the given backup. Backup can either be a copy of the workspace file or a folder
+	 * with the main workspace file and the workspace parts of the sharded workspace storage.
+	 *
+	 * @param backup        Backup file or folder
+	 * @param workspaceFile Workspace file to restore
+	 */
+	public static void restoreWorkspaceFileBackup(File backup, File workspaceFile) {
+		if (backup.isDirectory()) {
+			File shardsDir = getShardsDir(workspaceFile);
+			File[] files = backup.listFiles();
+			for (File file : files != null ? files : new File[0]) {
+				if (file.getName().equals(workspaceFile.getName()))
+					FileIO.copyFile(file, workspaceFile);
+				else
+					FileIO.copyFile(file, new File(shardsDir, file.getName()));
+			}
+			createShardsMarker(shardsDir);
+		} else {
+			FileIO.copyFile(backup, workspaceFile);
+		}
+	}
+
+	private static File getShardsDir(File workspaceFile) {
+		return new File(workspaceFile.getParentFile(), SHARDS_PATH);
+	}
+
+	private static void createShardsMarker(File shardsDir) {
+		File marker = new File(shardsDir, SHARDS_MARKER);
+		if (!marker.isFile())
+			FileIO.touchFile(marker);
+	}
+
+	private static File getShardFile(File shardsDir, Workspace.Part part) {
+		return new File(shardsDir, part.getFieldName() + ".json");
+	}
+
+	private void rotateWorkspaceFileBackup(boolean sharded) {
 		int numberOfBackupsExcludingCurrent = PreferencesManager.PREFERENCES.backups.numberOfBackupsToStore.get() - 1;
 		File[] existingBackupsArray = folderManager.getWorkspaceBackupsCacheDir().listFiles();
 
@@ -166,20 +300,53 @@ public class WorkspaceFileManager implements Closeable {
 					> PreferencesManager.PREFERENCES.backups.automatedBackupInterval.get()) {  // check if we have surpassed backup interval
 				if (existingBackupsArray.length
 						> numberOfBackupsExcludingCurrent) // only delete old ones if we have more than threshold of backups
-					existingBackups.stream().skip(numberOfBackupsExcludingCurrent).forEach(File::delete);
-				createNewWorkspaceFileBackup();
+					existingBackups.stream().skip(numberOfBackupsExcludingCurrent)
+							.forEach(backup -> {
+								if (backup.isDirectory())
+									FileIO.deleteDir(backup);
+								else
+									backup.delete();
+							});
+				createNewWorkspaceFileBackup(sharded);
 			}
 		} else { // we don't have any backup yet
-			createNewWorkspaceFileBackup();
+			createNewWorkspaceFileBackup(sharded);
 		}
 	}
 
-	private void createNewWorkspaceFileBackup() {
+	private void createNewWorkspaceFileBackup(boolean sharded) {
 		// if workspace file exists so we can back it up, we backup it
 		if (workspaceFile.isFile()) {
 			File backupFile = new File(folderManager.getWorkspaceBackupsCacheDir(),
 					workspaceFile.getName() + "-backup_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()));
-			FileIO.copyFile(workspaceFile, backupFile);
+			if (sharded) {
+				// sharded workspace is backed up as a folder with the main file and all part files
+				backupFile.mkdirs();
+				linkOrCopyFile(workspaceFile, new File(backupFile, workspaceFile.getName()));
+				for (Workspace.Part part : Workspace.Part.values()) {
+					if (part.getDataType() == null)
+						continue;
+
+					File shardFile = getShardFile(getShardsDir(workspaceFile), part);
+					if (shardFile.isFile())
+						linkOrCopyFile(shardFile, new File(backupFile, shardFile.getName()));
+				}
+			} else {
+				linkOrCopyFile(workspaceFile, backupFile);
+			}
+		}
+	}
+
+	/**
+	 * Workspace files are only ever replaced by moving a new file in place, so backups can be hard links to the
+	 * current files instead of copies
+	 */
+	private void linkOrCopyFile(File from, File to) {
+		try {
+			to.getParentFile().mkdirs();
+			Files.createLink(to.toPath(), from.toPath());
+		} catch (IOException | UnsupportedOperationException e) {
+			FileIO.copyFile(from, to);
 		}
 	}
 
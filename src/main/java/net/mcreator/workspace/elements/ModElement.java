@@ -150,7 +150,7 @@ public class ModElement implements Serializable, IWorkspaceProvider, IGeneratorP
 		return null;
 	}
 
-	public ModElement putMetadata(String key, Object data) {
+	public synchronized ModElement putMetadata(String key, Object data) {
 		if (metadata == null)
 			metadata = new HashMap<>();
 		metadata.put(key, data);
@@ -158,14 +158,14 @@ public class ModElement implements Serializable, IWorkspaceProvider, IGeneratorP
 		return this;
 	}
 
-	public ModElement clearMetadata() {
+	public synchronized ModElement clearMetadata() {
 		if (metadata != null)
 			metadata = new HashMap<>();
 
 		return this;
 	}
 
-	public Object getMetadata(String key) {
+	public synchronized Object getMetadata(String key) {
 		if (metadata == null)
 			return null;
 		return metadata.get(key);
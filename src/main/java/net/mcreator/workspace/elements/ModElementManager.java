@@ -27,39 +27,58 @@ import net.mcreator.element.parts.procedure.RetvalProcedure;
 import net.mcreator.element.types.CustomElement;
 import net.mcreator.generator.GeneratorTemplate;
 import net.mcreator.io.FileIO;
+import net.mcreator.minecraft.MCItemIconCache;
 import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.references.ReferencesIndex;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 import javax.swing.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Stack;
+import java.lang.ref.SoftReference;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * ModElementManager is not thread safe
+ * ModElementManager can load generatable elements from multiple threads. Elements in conversion are tracked per thread,
+ * so each thread only sees conversions it started itself.
+ * <p>
+ * Loaded generatable elements are cached using soft references, so they can be collected when memory is low and are
+ * loaded again from their definition files when needed. A bounded number of recently used elements is kept strongly
+ * reachable so elements that are being worked with are not reloaded.
  */
-@NotThreadSafe public final class ModElementManager {
+@ThreadSafe public final class ModElementManager {
 
 	private static final Logger LOG = LogManager.getLogger("ModElementManager");
 
 	private final Gson gson;
 
-	private final Map<ModElement, GeneratableElement> cache = new ConcurrentHashMap<>();
+	private static final int RECENTLY_USED_LIMIT = 128;
+
+	private final Map<ModElement, SoftReference<GeneratableElement>> cache = new ConcurrentHashMap<>();
+
+	private final Map<ModElement, GeneratableElement> recentlyUsed = Collections.synchronizedMap(
+			new LinkedHashMap<>(16, 0.75f, true) {
+				@Override protected boolean removeEldestEntry(Map.Entry<ModElement, GeneratableElement> eldest) {
+					return size() > RECENTLY_USED_LIMIT;
+				}
+			});
 
 	@Nonnull private final Workspace workspace;
 
-	private final Stack<ModElement> modElementsInConversion = new Stack<>();
+	private final ReferencesIndex referencesIndex;
+
+	private final MCItemIconCache mcItemIconCache = new MCItemIconCache();
+
+	private final ThreadLocal<Deque<ModElement>> modElementsInConversion = ThreadLocal.withInitial(ArrayDeque::new);
 
 	public ModElementManager(@Nonnull Workspace workspace) {
 		this.workspace = workspace;
+		this.referencesIndex = new ReferencesIndex(workspace);
 
 		GsonBuilder gsonBuilder = new GsonBuilder().registerTypeHierarchyAdapter(GeneratableElement.class,
 						new GeneratableElement.GSONAdapter(this.workspace)).disableHtmlEscaping().setPrettyPrinting()
@@ -70,7 +89,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 	}
 
 	public ModElement getLastElementInConversion() {
-		return modElementsInConversion.peek();
+		return modElementsInConversion.get().peek();
 	}
 
 	/**
@@ -88,15 +107,21 @@ import java.util.concurrent.atomic.AtomicInteger;
 			return;
 		}
 
-		cache.put(element.getModElement(), element);
+		cache.put(element.getModElement(), new SoftReference<>(element));
+		recentlyUsed.put(element.getModElement(), element);
 
 		FileIO.writeStringToFile(generatableElementToJSON(element),
 				new File(workspace.getFolderManager().getModElementsDir(),
 						element.getModElement().getName() + ".mod.json"));
+
+		referencesIndex.update(element);
+
+		mcItemIconCache.invalidate(element.getModElement().getName());
 	}
 
 	public void removeModElement(ModElement element) {
 		cache.remove(element);
+		recentlyUsed.remove(element);
 
 		// first we ask generator to remove all related files
 		if (element.getType() != ModElementType.UNKNOWN) {
@@ -110,19 +135,31 @@ import java.util.concurrent.atomic.AtomicInteger;
 		// after we don't need the definition anymore, remove actual files
 		new File(workspace.getFolderManager().getModElementsDir(), element.getName() + ".mod.json").delete();
 		new File(workspace.getFolderManager().getModElementPicturesCacheDir(), element.getName() + ".png").delete();
+
+		referencesIndex.remove(element);
+
+		mcItemIconCache.invalidate(element.getName());
+	}
+
+	public ReferencesIndex getReferencesIndex() {
+		return referencesIndex;
+	}
+
+	public MCItemIconCache getMCItemIconCache() {
+		return mcItemIconCache;
 	}
 
 	GeneratableElement loadGeneratableElement(ModElement element) {
 		// To prevent circular reference (and thus stack overflow), we return Unknown GE if we are loading the
 		// mod element that is being converted as otherwise this will try to start the conversion again
-		if (modElementsInConversion.contains(element))
+		if (modElementsInConversion.get().contains(element))
 			return new GeneratableElement.Unknown(element);
 
 		if (element.getType() == ModElementType.CODE) {
 			return new CustomElement(element);
 		}
 
-		GeneratableElement cachedGeneratableElement = cache.get(element);
+		GeneratableElement cachedGeneratableElement = getCached(element);
 		if (cachedGeneratableElement != null) {
 			if (cachedGeneratableElement.getModElement() != element) {
 				try {
@@ -155,19 +192,51 @@ import java.util.concurrent.atomic.AtomicInteger;
 			if (generatableElement.wasConversionApplied())
 				storeModElement(generatableElement);
 
-			// Add it to the cache
-			cache.put(element, generatableElement);
+			// Add it to the cache, if other thread loaded the same element in the meantime, we use its instance
+			return cacheIfAbsent(element, generatableElement);
 		}
 
 		return generatableElement;
 	}
 
+	private GeneratableElement getCached(ModElement element) {
+		SoftReference<GeneratableElement> reference = cache.get(element);
+		if (reference == null)
+			return null;
+
+		GeneratableElement generatableElement = reference.get();
+		if (generatableElement == null) {
+			cache.remove(element, reference); // element was collected, drop the stale entry
+			return null;
+		}
+
+		recentlyUsed.put(element, generatableElement);
+		return generatableElement;
+	}
+
+	private GeneratableElement cacheIfAbsent(ModElement element, GeneratableElement generatableElement) {
+		SoftReference<GeneratableElement> reference = cache.compute(element,
+				(key, existing) -> existing != null && existing.get() != null ?
+						existing :
+						new SoftReference<>(generatableElement));
+
+		GeneratableElement cached = reference.get();
+		if (cached == null) { // collected right after it was cached
+			cache.put(element, new SoftReference<>(generatableElement));
+			cached = generatableElement;
+		}
+
+		recentlyUsed.put(element, cached);
+		return cached;
+	}
+
 	public String generatableElementToJSON(GeneratableElement element) {
 		return gson.toJson(element);
 	}
 
 	public GeneratableElement fromJSONtoGeneratableElement(String json, ModElement modElement) {
-		this.modElementsInConversion.push(modElement);
+		Deque<ModElement> conversionStack = this.modElementsInConversion.get();
+		conversionStack.push(modElement);
 
 		try {
 			return gson.fromJson(json, GeneratableElement.class);
@@ -176,7 +245,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 					+ " from JSON. This can lead to errors further down the road!", e);
 			return null;
 		} finally {
-			this.modElementsInConversion.pop();
+			conversionStack.pop();
 		}
 	}
 
@@ -212,6 +281,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 		} catch (Exception e1) {
 			LOG.warn("Failed to generate mod element picture for " + element.getModElement().getName(), e1);
 		}
+
+		mcItemIconCache.invalidate(element.getModElement().getName());
 	}
 
 	public static ImageIcon getModElementIcon(ModElement element) {
@@ -222,12 +293,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 	}
 
 	/**
-	 * Invalidates the generatable element cache
+	 * Invalidates the generatable element cache and the MCItem icon cache
 	 *
 	 * @apiNote This method performs sensitive operations on host workspace. Avoid using it!
 	 */
 	@SuppressWarnings("unused") public void invalidateCache() {
 		cache.clear();
+		recentlyUsed.clear();
+		mcItemIconCache.invalidateAll();
 	}
 
 }
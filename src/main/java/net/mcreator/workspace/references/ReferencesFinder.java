@@ -19,16 +19,9 @@
 
 package net.mcreator.workspace.references;
 
-import net.mcreator.blockly.data.BlocklyXML;
-import net.mcreator.element.GeneratableElement;
-import net.mcreator.element.parts.Sound;
-import net.mcreator.element.parts.procedure.Procedure;
-import net.mcreator.generator.GeneratorWrapper;
-import net.mcreator.generator.mapping.MappableElement;
 import net.mcreator.plugin.PluginLoader;
 import net.mcreator.ui.MCreator;
 import net.mcreator.ui.workspace.resources.TextureType;
-import net.mcreator.util.FilenameUtilsPatched;
 import net.mcreator.workspace.IWorkspaceProvider;
 import net.mcreator.workspace.Workspace;
 import net.mcreator.workspace.elements.ModElement;
@@ -39,143 +32,64 @@ import net.mcreator.workspace.resources.TexturedModel;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.lang.reflect.*;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class ReferencesFinder {
 
-	/**
-	 * Convenience method to provide a list of all generatable elements contained in the provided workspace in a thread-safe manner.
-	 * List returned by this method can be used in parallel streams as long as all other methods in the said parallel stream are
-	 * also thread safe. Thus, e.g. calling ModElementManager within the parallel stream later would still cause problems.
-	 *
-	 * @param workspace Workspace to obtain generatable elements from.
-	 * @return List of all generatable elements contained in the provided workspace.
-	 */
-	private static List<GeneratableElement> getGeneratableElements(Workspace workspace) {
-		return workspace.getModElements().stream().filter(me -> !me.isCodeLocked())
-				.map(ModElement::getGeneratableElement).collect(Collectors.toList());
+	private static ReferencesIndex getReferencesIndex(Workspace workspace) {
+		return workspace.getModElementManager().getReferencesIndex();
 	}
 
-	//@formatter:off
-
 	public static Set<ModElement> searchModElementUsages(Workspace workspace, ModElement element) {
-		final Pattern procedureXmlPattern = Pattern.compile(">(?:CUSTOM:)?" + element.getName() + "([.:]\\w+?)?</field>");
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(ModElementReference.class), (a, t) -> {
-					ModElementReference ref = a.getAnnotation(ModElementReference.class);
-					return !Set.of(ref.defaultValues()).contains(t) && element.getName().equals(
-							GeneratorWrapper.getElementPlainName(t));
-				}) ||
-				anyValueMatches(ge, MappableElement.class, e -> e.isAnnotationPresent(ModElementReference.class), (a, t) ->
-					element.getName().equals(GeneratorWrapper.getElementPlainName(t.getUnmappedValue()))
-				) ||
-				anyValueMatches(ge, Procedure.class, e -> e.isAnnotationPresent(ModElementReference.class), (a, t) ->
-					element.getName().equals(t.getName())
-				) ||
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(BlocklyXML.class), (a, t) ->
-					procedureXmlPattern.matcher(t).find()
-				)
-			)
-			.map(GeneratableElement::getModElement).filter(me -> !me.equals(element)).collect(Collectors.toSet());
+		Set<ModElement> retval = getReferencesIndex(workspace).getReferencingElements(
+				ReferencesIndex.ELEMENT + element.getName());
+		retval.remove(element);
+		return retval;
 	}
 
 	public static Set<ModElement> searchTextureUsages(Workspace workspace, File texture, TextureType type) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, String.class, e -> {
-					TextureReference ref = e.getAnnotation(TextureReference.class);
-					return ref != null && ref.value() == type;
-				}, (a, t) -> {
-					TextureReference ref = a.getAnnotation(TextureReference.class);
-					if (!Set.of(ref.defaultValues()).contains(t)) {
-						for (String template : ref.files()) {
-							String file = template.isEmpty() ? t : template.formatted(t);
-							if (workspace.getFolderManager()
-									.getTextureFile(FilenameUtilsPatched.removeExtension(file), type).equals(texture))
-								return true;
-						}
-					}
-					return false;
-				})
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		ReferencesIndex referencesIndex = getReferencesIndex(workspace);
+		return referencesIndex.getReferencingElements(referencesIndex.textureReference(texture, type));
 	}
 
 	public static Set<ModElement> searchModelUsages(Workspace workspace, Model model) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, Model.class, e -> {
-					ResourceReference ref = e.getAnnotation(ResourceReference.class);
-					return ref != null && ref.value().equals("model");
-				}, (a, t) ->
-					model.equals(t) || TexturedModel.getModelTextureMapVariations(model).contains(t)
-				)
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		ReferencesIndex referencesIndex = getReferencesIndex(workspace);
+		Set<ModElement> retval = referencesIndex.getReferencingElements(ReferencesIndex.modelReference(model));
+		for (Model variation : TexturedModel.getModelTextureMapVariations(model))
+			retval.addAll(referencesIndex.getReferencingElements(ReferencesIndex.modelReference(variation)));
+		return retval;
 	}
 
 	public static Set<ModElement> searchSoundUsages(Workspace workspace, SoundElement sound) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, Sound.class, e -> {
-						ResourceReference ref = e.getAnnotation(ResourceReference.class);
-						return ref != null && ref.value().equals("sound");
-					}, (a, t) ->
-					t.getUnmappedValue().replaceFirst("CUSTOM:", "").equals(sound.getName())
-				) ||
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(BlocklyXML.class), (a, t) ->
-					t.contains(">CUSTOM:" + sound.getName() + "</field>")
-				)
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		ReferencesIndex referencesIndex = getReferencesIndex(workspace);
+		Set<ModElement> retval = referencesIndex.getReferencingElements(ReferencesIndex.SOUND + sound.getName());
+		retval.addAll(referencesIndex.getReferencingElements(
+				ReferencesIndex.BLOCKLY_FIELD_VALUE + "CUSTOM:" + sound.getName()));
+		return retval;
 	}
 
 	public static Set<ModElement> searchStructureUsages(Workspace workspace, String structure) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, String.class, e -> {
-						ResourceReference ref = e.getAnnotation(ResourceReference.class);
-						return ref != null && ref.value().equals("structure");
-					}, (a, t) ->
-					t.equals(structure)
-				) ||
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(BlocklyXML.class), (a, t) ->
-					t.contains(">" + structure + "</field>")
-				)
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		ReferencesIndex referencesIndex = getReferencesIndex(workspace);
+		Set<ModElement> retval = referencesIndex.getReferencingElements(ReferencesIndex.STRUCTURE + structure);
+		retval.addAll(referencesIndex.getReferencingElements(ReferencesIndex.BLOCKLY_FIELD_VALUE + structure));
+		return retval;
 	}
 
 	public static Set<ModElement> searchGlobalVariableUsages(Workspace workspace, String variableName) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(BlocklyXML.class), (a, t) ->
-					t.contains("<field name=\"VAR\">global:" + variableName + "</field>")
-				)
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		return getReferencesIndex(workspace).getReferencingElements(ReferencesIndex.VARIABLE + variableName);
 	}
 
 	public static Set<ModElement> searchLocalizationKeyUsages(Workspace workspace, String localizationKey) {
-		return getGeneratableElements(workspace).parallelStream()
-			.filter(ge ->
-				(ge != null && workspace.getGenerator().getElementLocalizationKeys(ge).contains(localizationKey)) ||
-				anyValueMatches(ge, String.class, e -> e.isAnnotationPresent(BlocklyXML.class), (a, t) ->
-					t.contains(">" + localizationKey + "</field>")
-				)
-			)
-			.map(GeneratableElement::getModElement).collect(Collectors.toSet());
+		ReferencesIndex referencesIndex = getReferencesIndex(workspace);
+		Set<ModElement> retval = referencesIndex.getReferencingElements(
+				ReferencesIndex.LOCALIZATION + localizationKey);
+		retval.addAll(referencesIndex.getReferencingElements(ReferencesIndex.BLOCKLY_FIELD_VALUE + localizationKey));
+		return retval;
 	}
 
-	//@formatter:on
-
 	/**
 	 * Checks if values acquired from any valid fields or methods meet the specified condition.
 	 *
@@ -0,0 +1,393 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.workspace.references;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import net.mcreator.blockly.data.BlocklyXML;
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.element.parts.Sound;
+import net.mcreator.element.parts.procedure.Procedure;
+import net.mcreator.generator.GeneratorWrapper;
+import net.mcreator.generator.mapping.MappableElement;
+import net.mcreator.io.FileIO;
+import net.mcreator.ui.workspace.resources.TextureType;
+import net.mcreator.util.FilenameUtilsPatched;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.elements.ModElement;
+import net.mcreator.workspace.resources.Model;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index of references from mod elements to other mod elements and workspace resources, used by
+ * {@link ReferencesFinder}.
+ * <p>
+ * References of each element are collected from fields annotated with {@link ModElementReference},
+ * {@link TextureReference}, {@link ResourceReference} and {@link BlocklyXML} when the element is stored. Index is
+ * stored in the workspace cache folder, so on the next load only elements whose definition files changed in the
+ * meantime are loaded and scanned again.
+ */
+public final class ReferencesIndex {
+
+	private static final Logger LOG = LogManager.getLogger("References Index");
+
+	private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+	private static final Pattern BLOCKLY_FIELD = Pattern.compile("<field\\b([^>]*)>([^<]*)</field>");
+	private static final Pattern WORD = Pattern.compile("\\w+");
+
+	static final String ELEMENT = "element:";
+	static final String TEXTURE = "texture:";
+	static final String MODEL = "model:";
+	static final String SOUND = "sound:";
+	static final String STRUCTURE = "structure:";
+	static final String VARIABLE = "variable:";
+	static final String LOCALIZATION = "localization:";
+	static final String BLOCKLY_FIELD_VALUE = "field:";
+
+	private final Workspace workspace;
+
+	private final Map<String, Set<String>> referencesByElement = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> elementsByReference = new ConcurrentHashMap<>();
+
+	// elements stored before the index was built, their persisted references can not be used
+	private final Set<String> staleElements = ConcurrentHashMap.newKeySet();
+
+	// versions of the last published updates of elements, so an older scan never replaces references of a newer one
+	private final Map<String, Long> updateVersions = new HashMap<>();
+	private final AtomicLong updateCounter = new AtomicLong();
+
+	private final Object buildLock = new Object();
+
+	private volatile boolean built = false;
+	private volatile boolean dirty = false;
+
+	public ReferencesIndex(Workspace workspace) {
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Updates references of the given element. Should be called after the definition of the element is stored.
+	 *
+	 * @param element Generatable element whose references changed
+	 */
+	public void update(GeneratableElement element) {
+		String name = element.getModElement().getName();
+		synchronized (this) {
+			if (!built) {
+				staleElements.add(name);
+				return;
+			}
+		}
+
+		long version = updateCounter.incrementAndGet();
+
+		// references are collected without holding the lock, so elements stored in parallel are scanned in parallel
+		Set<String> references = collectReferences(element);
+
+		synchronized (this) {
+			publishReferences(name, version, references);
+		}
+	}
+
+	public synchronized void remove(ModElement element) {
+		if (built) {
+			publishReferences(element.getName(), updateCounter.incrementAndGet(), null);
+		} else {
+			staleElements.add(element.getName());
+		}
+	}
+
+	/**
+	 * @param reference Reference key, prefixed by the reference kind
+	 * @return Mod elements that are not code locked and contain the given reference
+	 */
+	Set<ModElement> getReferencingElements(String reference) {
+		ensureBuilt();
+
+		Set<ModElement> retval = new HashSet<>();
+		for (String name : elementsByReference.getOrDefault(reference, Set.of())) {
+			ModElement modElement = workspace.getModElementByName(name);
+			if (modElement != null && !modElement.isCodeLocked())
+				retval.add(modElement);
+		}
+		return retval;
+	}
+
+	/**
+	 * Stores the index to the workspace cache folder if it was changed since it was loaded
+	 */
+	public synchronized void save() {
+		if (!built || !dirty)
+			return;
+
+		Map<String, StoredReferences> elements = new HashMap<>();
+		for (Map.Entry<String, Set<String>> entry : referencesByElement.entrySet()) {
+			File definitionFile = getDefinitionFile(entry.getKey());
+			elements.put(entry.getKey(), new StoredReferences(definitionFile.lastModified(), definitionFile.length(),
+					entry.getValue()));
+		}
+
+		FileIO.writeStringToFile(gson.toJson(new StoredIndex(getGeneratorName(), elements)), getCacheFile());
+		dirty = false;
+	}
+
+	private void ensureBuilt() {
+		if (built)
+			return;
+
+		// elements are loaded without holding the index lock, as loading can store converted elements from other threads
+		synchronized (buildLock) {
+			if (built)
+				return;
+
+			long start = System.currentTimeMillis();
+
+			Set<String> storedBeforeBuild;
+			synchronized (this) {
+				storedBeforeBuild = Set.copyOf(staleElements);
+				staleElements.clear();
+			}
+
+			Map<String, StoredReferences> stored = loadStoredReferences();
+
+			Map<String, Set<String>> collected = new ConcurrentHashMap<>();
+			List<ModElement> toScan = new ArrayList<>();
+			for (ModElement modElement : workspace.getModElements()) {
+				StoredReferences storedReferences = stored.get(modElement.getName());
+				File definitionFile = getDefinitionFile(modElement.getName());
+				if (storedReferences != null && storedReferences.references() != null
+						&& !storedBeforeBuild.contains(modElement.getName())
+						&& storedReferences.lastModified() == definitionFile.lastModified()
+						&& storedReferences.length() == definitionFile.length()) {
+					collected.put(modElement.getName(), storedReferences.references());
+				} else {
+					toScan.add(modElement);
+				}
+			}
+
+			toScan.parallelStream().forEach(modElement -> {
+				GeneratableElement generatableElement = modElement.getGeneratableElement();
+				if (generatableElement != null)
+					collected.put(modElement.getName(), collectReferences(generatableElement));
+			});
+
+			synchronized (this) {
+				collected.forEach(this::putReferences);
+
+				// elements stored or removed while the index was being built
+				for (String name : Set.copyOf(staleElements)) {
+					ModElement modElement = workspace.getModElementByName(name);
+					GeneratableElement generatableElement =
+							modElement != null ? modElement.getGeneratableElement() : null;
+					putReferences(name, generatableElement != null ? collectReferences(generatableElement) : Set.of());
+					if (generatableElement == null)
+						referencesByElement.remove(name);
+				}
+				staleElements.clear();
+
+				built = true;
+				dirty = !toScan.isEmpty() || stored.size() != referencesByElement.size();
+			}
+
+			LOG.debug("Built references index in " + (System.currentTimeMillis() - start) + " ms, " + toScan.size()
+					+ " elements scanned");
+		}
+	}
+
+	/**
+	 * @param references References of the element or null if the element was removed
+	 */
+	private void publishReferences(String name, long version, @Nullable Set<String> references) {
+		Long publishedVersion = updateVersions.get(name);
+		if (publishedVersion != null && publishedVersion > version)
+			return; // newer references of this element were already published
+
+		updateVersions.put(name, version);
+		putReferences(name, references != null ? references : Set.of());
+		if (references == null)
+			referencesByElement.remove(name);
+		dirty = true;
+	}
+
+	private void putReferences(String name, Set<String> references) {
+		Set<String> previous = referencesByElement.put(name, references);
+		if (previous != null) {
+			for (String reference : previous) {
+				Set<String> elements = elementsByReference.get(reference);
+				if (elements != null) {
+					elements.remove(name);
+					if (elements.isEmpty())
+						elementsByReference.remove(reference);
+				}
+			}
+		}
+
+		for (String reference : references)
+			elementsByReference.computeIfAbsent(reference, key -> ConcurrentHashMap.newKeySet()).add(name);
+	}
+
+	private Set<String> collectReferences(GeneratableElement element) {
+		Set<String> references = new HashSet<>();
+
+		ReferencesFinder.anyValueMatches(element, String.class,
+				e -> e.isAnnotationPresent(ModElementReference.class), (a, t) -> {
+					ModElementReference ref = a.getAnnotation(ModElementReference.class);
+					if (!Set.of(ref.defaultValues()).contains(t))
+						references.add(ELEMENT + GeneratorWrapper.getElementPlainName(t));
+					return false;
+				});
+		ReferencesFinder.anyValueMatches(element, MappableElement.class,
+				e -> e.isAnnotationPresent(ModElementReference.class), (a, t) -> {
+					references.add(ELEMENT + GeneratorWrapper.getElementPlainName(t.getUnmappedValue()));
+					return false;
+				});
+		ReferencesFinder.anyValueMatches(element, Procedure.class,
+				e -> e.isAnnotationPresent(ModElementReference.class), (a, t) -> {
+					references.add(ELEMENT + t.getName());
+					return false;
+				});
+
+		ReferencesFinder.anyValueMatches(element, String.class, e -> {
+			TextureReference ref = e.getAnnotation(TextureReference.class);
+			return ref != null;
+		}, (a, t) -> {
+			TextureReference ref = a.getAnnotation(TextureReference.class);
+			if (!Set.of(ref.defaultValues()).contains(t)) {
+				for (String template : ref.files()) {
+					String file = template.isEmpty() ? t : template.formatted(t);
+					references.add(textureReference(workspace.getFolderManager()
+							.getTextureFile(FilenameUtilsPatched.removeExtension(file), ref.value()), ref.value()));
+				}
+			}
+			return false;
+		});
+
+		ReferencesFinder.anyValueMatches(element, Model.class, e -> {
+			ResourceReference ref = e.getAnnotation(ResourceReference.class);
+			return ref != null && ref.value().equals("model");
+		}, (a, t) -> {
+			references.add(modelReference(t));
+			return false;
+		});
+		ReferencesFinder.anyValueMatches(element, Sound.class, e -> {
+			ResourceReference ref = e.getAnnotation(ResourceReference.class);
+			return ref != null && ref.value().equals("sound");
+		}, (a, t) -> {
+			references.add(SOUND + t.getUnmappedValue().replaceFirst("CUSTOM:", ""));
+			return false;
+		});
+		ReferencesFinder.anyValueMatches(element, String.class, e -> {
+			ResourceReference ref = e.getAnnotation(ResourceReference.class);
+			return ref != null && ref.value().equals("structure");
+		}, (a, t) -> {
+			references.add(STRUCTURE + t);
+			return false;
+		});
+
+		ReferencesFinder.anyValueMatches(element, String.class, e -> e.isAnnotationPresent(BlocklyXML.class),
+				(a, t) -> {
+					collectBlocklyReferences(t, references);
+					return false;
+				});
+
+		if (workspace.getGenerator() != null) {
+			for (String localizationKey : workspace.getGenerator().getElementLocalizationKeys(element))
+				references.add(LOCALIZATION + localizationKey);
+		}
+
+		return Set.copyOf(references);
+	}
+
+	private static void collectBlocklyReferences(String xml, Set<String> references) {
+		Matcher matcher = BLOCKLY_FIELD.matcher(xml);
+		while (matcher.find()) {
+			String value = matcher.group(2);
+			references.add(BLOCKLY_FIELD_VALUE + value);
+
+			// element names can be referenced as >(CUSTOM:)name(.suffix or :suffix)</field>
+			String elementName = value.startsWith("CUSTOM:") ? value.substring(7) : value;
+			references.add(ELEMENT + elementName);
+			int lastSeparator = Math.max(elementName.lastIndexOf('.'), elementName.lastIndexOf(':'));
+			if (lastSeparator > 0 && WORD.matcher(elementName.substring(lastSeparator + 1)).matches())
+				references.add(ELEMENT + elementName.substring(0, lastSeparator));
+
+			if (matcher.group(1).trim().equals("name=\"VAR\"") && value.startsWith("global:"))
+				references.add(VARIABLE + value.substring(7));
+		}
+	}
+
+	String textureReference(File texture, TextureType type) {
+		String path = texture.getPath();
+		try {
+			path = workspace.getWorkspaceFolder().toPath().relativize(texture.toPath()).toString();
+		} catch (IllegalArgumentException ignored) {
+			// texture is on a different root, absolute path is used
+		}
+		return TEXTURE + type.name() + ":" + path;
+	}
+
+	static String modelReference(Model model) {
+		return MODEL + model.getType() + ":" + model.getReadableName();
+	}
+
+	private Map<String, StoredReferences> loadStoredReferences() {
+		File cacheFile = getCacheFile();
+		if (cacheFile.isFile()) {
+			try {
+				StoredIndex storedIndex = gson.fromJson(FileIO.readFileToString(cacheFile), StoredIndex.class);
+				// localization keys depend on the generator, so index of other generator can not be used
+				if (storedIndex != null && storedIndex.elements() != null && Objects.equals(storedIndex.generator(),
+						getGeneratorName()))
+					return storedIndex.elements();
+			} catch (JsonSyntaxException e) {
+				LOG.warn("Failed to load references index, all elements will be scanned", e);
+			}
+		}
+		return Map.of();
+	}
+
+	@Nullable private String getGeneratorName() {
+		return workspace.getGenerator() != null ? workspace.getGenerator().getGeneratorName() : null;
+	}
+
+	private File getDefinitionFile(String name) {
+		return new File(workspace.getFolderManager().getModElementsDir(), name + ".mod.json");
+	}
+
+	private File getCacheFile() {
+		return new File(workspace.getFolderManager().getWorkspaceCacheDir(), "referencesIndex");
+	}
+
+	private record StoredIndex(@Nullable String generator, Map<String, StoredReferences> elements) {}
+
+	private record StoredReferences(long lastModified, long length, Set<String> references) {}
+
+}
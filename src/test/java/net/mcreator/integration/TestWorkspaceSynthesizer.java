@@ -0,0 +1,254 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.integration;
+
+import net.mcreator.blockly.data.Dependency;
+import net.mcreator.element.GeneratableElement;
+import net.mcreator.element.ModElementType;
+import net.mcreator.element.ModElementTypeLoader;
+import net.mcreator.element.NamespacedGeneratableElement;
+import net.mcreator.element.types.Procedure;
+import net.mcreator.generator.GeneratorStats;
+import net.mcreator.integration.generator.GTProcedureBlocks;
+import net.mcreator.integration.generator.GTSampleElements;
+import net.mcreator.io.FileIO;
+import net.mcreator.minecraft.RegistryNameFixer;
+import net.mcreator.ui.workspace.resources.TextureType;
+import net.mcreator.workspace.Workspace;
+import net.mcreator.workspace.elements.ModElement;
+import net.mcreator.workspace.elements.ModElementManager;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills workspaces with a large number of mod elements for scale tests and benchmarks. Workspaces synthesized with the
+ * same seed and settings have the same contents.
+ * <p>
+ * Mod elements are copies of the examples from {@link TestWorkspaceDataProvider}, created for each mod element type
+ * supported by the generator. Recipes are synthesized last, so they reference the synthesized items and blocks.
+ * Synthesized procedures call previously synthesized procedures.
+ * <p>
+ * Only mod element definitions are stored, unless code generation is enabled. Mod element pictures are not stored, so
+ * the synthesizer does not render any previews.
+ */
+public class TestWorkspaceSynthesizer {
+
+	private static final String PROCEDURE_PREFIX = "SyntheticProcedure";
+
+	private final Random random;
+
+	private int elementsPerType = 10;
+	private int procedures = 100;
+	private int procedureBlocks = 20;
+	private int procedureCalls = 2;
+	private int textures = 50;
+	private int localizationEntries = 500;
+	private boolean generateCode = false;
+
+	public TestWorkspaceSynthesizer(long seed) {
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * @param elementsPerType Number of copies of examples of each mod element type, each type has one or more examples
+	 * @return This synthesizer
+	 */
+	public TestWorkspaceSynthesizer setElementsPerType(int elementsPerType) {
+		this.elementsPerType = elementsPerType;
+		return this;
+	}
+
+	/**
+	 * @param procedures      Number of synthesized procedures
+	 * @param procedureBlocks Number of statement blocks of each synthesized procedure
+	 * @param procedureCalls  Number of calls of other procedures in each synthesized procedure
+	 * @return This synthesizer
+	 */
+	public TestWorkspaceSynthesizer setProcedures(int procedures, int procedureBlocks, int procedureCalls) {
+		this.procedures = procedures;
+		this.procedureBlocks = procedureBlocks;
+		this.procedureCalls = procedureCalls;
+		return this;
+	}
+
+	/**
+	 * @param textures Number of textures of each block and item texture type
+	 * @return This synthesizer
+	 */
+	public TestWorkspaceSynthesizer setTextures(int textures) {
+		this.textures = textures;
+		return this;
+	}
+
+	public TestWorkspaceSynthesizer setLocalizationEntries(int localizationEntries) {
+		this.localizationEntries = localizationEntries;
+		return this;
+	}
+
+	/**
+	 * @param generateCode true if code of synthesized mod elements should be generated
+	 * @return This synthesizer
+	 */
+	public TestWorkspaceSynthesizer setGenerateCode(boolean generateCode) {
+		this.generateCode = generateCode;
+		return this;
+	}
+
+	/**
+	 * Adds the test data of {@link TestWorkspaceDataProvider}, sample elements and synthesized mod elements, textures
+	 * and localization entries to the workspace.
+	 *
+	 * @param workspace Workspace to fill
+	 * @return Synthesized generatable elements, in the order they were added
+	 */
+	public List<GeneratableElement> synthesize(Workspace workspace) {
+		TestWorkspaceDataProvider.fillWorkspaceWithTestData(workspace);
+		GTSampleElements.provideAndGenerateSampleElements(random, workspace);
+
+		synthesizeTextures(workspace);
+		synthesizeLocalizationEntries(workspace);
+
+		List<GeneratableElement> retval = new ArrayList<>();
+
+		if (isSupported(workspace, ModElementType.PROCEDURE)) {
+			for (int i = 1; i <= procedures; i++)
+				addGeneratableElement(workspace, getProcedure(workspace, i), retval);
+		}
+
+		List<ModElementType<?>> types = new ArrayList<>(ModElementTypeLoader.REGISTRY);
+		if (types.remove(ModElementType.RECIPE))
+			types.add(ModElementType.RECIPE);
+
+		for (ModElementType<?> type : types) {
+			if (!isSupported(workspace, type))
+				continue;
+
+			for (int copy = 1; copy <= elementsPerType; copy++) {
+				for (GeneratableElement example : TestWorkspaceDataProvider.getModElementExamplesFor(workspace, type,
+						false, random)) {
+					GeneratableElement generatableElement = copyOf(workspace, example,
+							example.getModElement().getName() + "Copy" + copy);
+					if (generatableElement != null)
+						addGeneratableElement(workspace, generatableElement, retval);
+				}
+			}
+		}
+
+		return retval;
+	}
+
+	private void addGeneratableElement(Workspace workspace, GeneratableElement generatableElement,
+			List<GeneratableElement> generatableElements) {
+		workspace.addModElement(generatableElement.getModElement());
+		if (generateCode)
+			workspace.getGenerator().generateElement(generatableElement);
+		workspace.getModElementManager().storeModElement(generatableElement);
+		generatableElements.add(generatableElement);
+	}
+
+	/**
+	 * Copies the example in the same way as duplicating the mod element in the workspace panel
+	 */
+	private static GeneratableElement copyOf(Workspace workspace, GeneratableElement example, String name) {
+		ModElementManager modElementManager = workspace.getModElementManager();
+
+		GeneratableElement retval = modElementManager.fromJSONtoGeneratableElement(
+				modElementManager.generatableElementToJSON(example),
+				new ModElement(workspace, example.getModElement(), name));
+		if (retval instanceof NamespacedGeneratableElement namespacedGeneratableElement)
+			namespacedGeneratableElement.name = RegistryNameFixer.fromCamelCase(name);
+		return retval;
+	}
+
+	private Procedure getProcedure(Workspace workspace, int index) {
+		ModElement modElement = new ModElement(workspace, PROCEDURE_PREFIX + index, ModElementType.PROCEDURE);
+		modElement.putMetadata("dependencies",
+				Arrays.asList(Dependency.fromString("x:number/y:number/z:number/world:world")));
+
+		List<String> statements = new ArrayList<>();
+		for (int i = 0; i < procedureBlocks; i++) {
+			statements.add("<block type=\"variables_set_number\"><field name=\"VAR\">local:test</field>"
+					+ "<value name=\"VAL\"><block type=\"math_dual_ops\"><field name=\"OP\">ADD</field>"
+					+ "<value name=\"A\"><block type=\"variables_get_number\"><field name=\"VAR\">local:test</field>"
+					+ "</block></value><value name=\"B\"><block type=\"math_number\"><field name=\"NUM\">"
+					+ random.nextInt(100) + "</field></block></value></block></value>");
+		}
+
+		// only previously synthesized procedures are called, so procedures never call themselves
+		if (index > 1) {
+			for (int i = 0; i < procedureCalls; i++) {
+				statements.add(random.nextInt(statements.size() + 1),
+						"<block type=\"call_procedure\"><field name=\"procedure\">" + PROCEDURE_PREFIX + (
+								random.nextInt(index - 1) + 1) + "</field>");
+			}
+		}
+
+		StringBuilder xml = new StringBuilder();
+		for (int i = 0; i < statements.size(); i++) {
+			if (i > 0)
+				xml.append("<next>");
+			xml.append(statements.get(i));
+		}
+		for (int i = statements.size() - 1; i >= 0; i--) {
+			xml.append("</block>");
+			if (i > 0)
+				xml.append("</next>");
+		}
+
+		Procedure procedure = new Procedure(modElement);
+		procedure.skipDependencyRegeneration();
+		procedure.procedurexml = GTProcedureBlocks.wrapWithBaseTestXML(xml.toString());
+		return procedure;
+	}
+
+	private void synthesizeTextures(Workspace workspace) {
+		for (TextureType textureType : new TextureType[] { TextureType.BLOCK, TextureType.ITEM }) {
+			if (workspace.getFolderManager().getTexturesFolder(textureType) == null)
+				continue;
+
+			for (int i = 1; i <= textures; i++) {
+				BufferedImage texture = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+				for (int x = 0; x < texture.getWidth(); x++)
+					for (int y = 0; y < texture.getHeight(); y++)
+						texture.setRGB(x, y, 0xFF000000 | random.nextInt(0x1000000));
+
+				FileIO.writeImageToPNGFile(texture,
+						workspace.getFolderManager().getTextureFile("synthetic" + i, textureType));
+			}
+		}
+	}
+
+	private void synthesizeLocalizationEntries(Workspace workspace) {
+		for (int i = 1; i <= localizationEntries; i++) {
+			workspace.setLocalization("synthetic." + workspace.getWorkspaceSettings().getModID() + ".entry" + i,
+					"Synthetic entry " + i + " " + Integer.toHexString(random.nextInt()));
+		}
+	}
+
+	private static boolean isSupported(Workspace workspace, ModElementType<?> type) {
+		return workspace.getGeneratorStats().getModElementTypeCoverageInfo().get(type)
+				!= GeneratorStats.CoverageStatus.NONE;
+	}
+
+}
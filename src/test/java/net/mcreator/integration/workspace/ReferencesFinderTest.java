@@ -21,6 +21,7 @@ package net.mcreator.integration.workspace;
 
 import net.mcreator.element.ModElementType;
 import net.mcreator.element.ModElementTypeLoader;
+import net.mcreator.element.types.Procedure;
 import net.mcreator.generator.*;
 import net.mcreator.integration.IntegrationTestSetup;
 import net.mcreator.integration.TestWorkspaceDataProvider;
@@ -216,6 +217,46 @@ import static org.junit.jupiter.api.Assertions.*;
 		assertTrue(ReferencesFinder.searchGlobalVariableUsages(workspace, variableName).isEmpty());
 	}
 
+	@Test void testBlocklyReferencesUpdate() {
+		ModElement target = workspace.getModElementByName("Exampleblock3");
+
+		ModElement modElement = new ModElement(workspace, "ReferencesTestProcedure", ModElementType.PROCEDURE);
+		Procedure procedure = new Procedure(modElement);
+		// element names are referenced with CUSTOM: prefix and suffixes such as .helmet or :state
+		procedure.procedurexml = blocklyXML("<field name=\"item\">CUSTOM:Exampleblock3.helmet</field>"
+				+ "<field name=\"VAR\">global:referencesTestVariable</field>");
+		workspace.addModElement(modElement);
+		workspace.getModElementManager().storeModElement(procedure);
+
+		assertTrue(ReferencesFinder.searchModElementUsages(workspace, target).contains(modElement));
+		assertTrue(ReferencesFinder.searchGlobalVariableUsages(workspace, "referencesTestVariable")
+				.contains(modElement));
+
+		// references are updated when the element is stored again
+		procedure.procedurexml = blocklyXML("<field name=\"VAR\">local:referencesTestVariable</field>");
+		workspace.getModElementManager().storeModElement(procedure);
+
+		assertFalse(ReferencesFinder.searchModElementUsages(workspace, target).contains(modElement));
+		assertTrue(ReferencesFinder.searchGlobalVariableUsages(workspace, "referencesTestVariable").isEmpty());
+
+		// code locked elements are not reported
+		procedure.procedurexml = blocklyXML("<field name=\"entity\">CUSTOM:Exampleblock3</field>");
+		workspace.getModElementManager().storeModElement(procedure);
+		assertTrue(ReferencesFinder.searchModElementUsages(workspace, target).contains(modElement));
+		modElement.setCodeLock(true);
+		assertFalse(ReferencesFinder.searchModElementUsages(workspace, target).contains(modElement));
+		modElement.setCodeLock(false);
+
+		// removed elements are not reported
+		workspace.removeModElement(modElement);
+		assertFalse(ReferencesFinder.searchModElementUsages(workspace, target).contains(modElement));
+	}
+
+	private static String blocklyXML(String fields) {
+		return "<xml xmlns=\"https://developers.google.com/blockly/xml\"><block type=\"event_trigger\">" + fields
+				+ "</block></xml>";
+	}
+
 	@Test void testLocalizationKeyUsagesSearch() {
 		String localizationKey = ListUtils.getRandomItem(
 				workspace.getLanguageMap().get("en_us").keySet().toArray(String[]::new));
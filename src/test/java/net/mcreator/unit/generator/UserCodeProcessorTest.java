@@ -0,0 +1,125 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.unit.generator;
+
+import net.mcreator.generator.usercode.UserCodeProcessor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class UserCodeProcessorTest {
+
+	@Test public void mergeKeepsIndentationOfUserCode() {
+		String currentCode = """
+				public class Test {
+					public void method() {
+						// Start of user code block custom
+						int a = 1;
+							int b = 2;
+				int c = 3;
+						// End of user code block custom
+					}
+				}
+				""";
+		String newCode = """
+				public class Test {
+					public void method() {
+						call();
+						// Start of user code block custom
+						// End of user code block custom
+					}
+				}
+				""";
+
+		assertEquals("""
+				public class Test {
+					public void method() {
+						call();
+						// Start of user code block custom
+						int a = 1;
+							int b = 2;
+				int c = 3;
+						// End of user code block custom
+					}
+				}
+				""", UserCodeProcessor.processUserCode(currentCode, newCode, "//"));
+	}
+
+	@Test public void mergeMatchesBlocksByName() {
+		String currentCode = """
+				// Start of user code block second
+				second();
+				// End of user code block second
+				// Start of user code block first
+				first();
+				// End of user code block first
+				// Start of user code block removed
+				removed();
+				// End of user code block removed
+				""";
+		String newCode = """
+				// Start of user code block first
+				// End of user code block first
+				// Start of user code block second
+				// End of user code block second
+				""";
+
+		assertEquals("""
+				// Start of user code block first
+				first();
+				// End of user code block first
+				// Start of user code block second
+				second();
+				// End of user code block second
+				""", UserCodeProcessor.processUserCode(currentCode, newCode, "//"));
+	}
+
+	@Test public void mergeIgnoresMarkersNotAtLineStart() {
+		String currentCode = """
+				// Start of user code block custom
+				custom();
+				// End of user code block custom
+				""";
+		String newCode = """
+				String marker = "// Start of user code block custom";
+				// End of user code block custom
+				""";
+
+		assertEquals(newCode, UserCodeProcessor.processUserCode(currentCode, newCode, "//"));
+	}
+
+	@Test public void newCodeIsReturnedWithoutUserCode() {
+		String newCode = """
+				// Start of user code block custom
+				// End of user code block custom
+				""";
+
+		assertSame(newCode, UserCodeProcessor.processUserCode((String) null, newCode, "//"));
+		assertSame(newCode, UserCodeProcessor.processUserCode("class Test {}", newCode, "//"));
+		// blank user code blocks are not preserved
+		assertSame(newCode, UserCodeProcessor.processUserCode("""
+				// Start of user code block custom
+				   \t
+				// End of user code block custom
+				""", newCode, "//"));
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.unit.gradle;
+
+import net.mcreator.gradle.GradleErrorClassifier;
+import net.mcreator.gradle.GradleErrorClassifier.Signature;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradleErrorClassifierTest {
+
+	@Test public void buildFailedIsAnchoredToLines() {
+		GradleErrorClassifier wholeLine = new GradleErrorClassifier();
+		wholeLine.acceptOutput("> Task :compileJava FAILED\n");
+		wholeLine.acceptOutput("BUILD FAILED\n");
+		assertTrue(wholeLine.outputContains(Signature.BUILD_FAILED));
+		assertTrue(wholeLine.outputContains(Signature.BUILD_FAILED_LINE));
+		assertTrue(wholeLine.outputContains(Signature.COMPILE_JAVA_FAILED));
+
+		// same as "\nBUILD FAILED" but not "\nBUILD FAILED\n"
+		GradleErrorClassifier lineStart = new GradleErrorClassifier();
+		lineStart.acceptOutput("\nBUILD FAILED in 12s\n");
+		assertTrue(lineStart.outputContains(Signature.BUILD_FAILED));
+		assertFalse(lineStart.outputContains(Signature.BUILD_FAILED_LINE));
+
+		GradleErrorClassifier inLine = new GradleErrorClassifier();
+		inLine.acceptOutput("Task reported BUILD FAILED\n");
+		assertFalse(inLine.outputContains(Signature.BUILD_FAILED));
+		assertFalse(inLine.outputContains(Signature.BUILD_FAILED_LINE));
+	}
+
+	@Test public void reobfFailureIsAnchoredToLineStart() {
+		GradleErrorClassifier lineStart = new GradleErrorClassifier();
+		lineStart.acceptError("* What went wrong:\nExecution failed for task ':reobfJar'.\n");
+		assertTrue(lineStart.errorContains(Signature.REOBF_FAILED));
+		assertTrue(lineStart.errorContains(Signature.EXECUTION_FAILED));
+		assertFalse(lineStart.outputContains(Signature.REOBF_FAILED));
+
+		GradleErrorClassifier inLine = new GradleErrorClassifier();
+		inLine.acceptError("* What went wrong: Execution failed for task ':reobfJar'.\n");
+		assertFalse(inLine.errorContains(Signature.REOBF_FAILED));
+		assertTrue(inLine.errorContains(Signature.EXECUTION_FAILED));
+	}
+
+	@Test public void nonBreakingSpacesMatchSpaces() {
+		GradleErrorClassifier classifier = new GradleErrorClassifier();
+		classifier.acceptError("> Could\u00a0not GET 'https://maven.example.com/a.pom'.\n");
+		classifier.acceptError(">\u00a0Could not resolve\u00a0com.example:a:1.0.\n");
+		assertTrue(classifier.errorContains(Signature.COULD_NOT_GET));
+		assertTrue(classifier.errorContains(Signature.COULD_NOT_RESOLVE));
+		assertTrue(classifier.contains(Signature.COULD_NOT_GET));
+		assertFalse(classifier.outputContains(Signature.COULD_NOT_GET));
+	}
+
+	@Test public void multiLineErrorIsMatchedPerLine() {
+		GradleErrorClassifier classifier = new GradleErrorClassifier();
+		classifier.acceptError("""
+				FAILURE: Build failed with an exception.
+
+				* What went wrong:
+				Could not resolve all files for configuration ':compileClasspath'.
+				> Could not find com.example:a:1.0.
+				""");
+		classifier.acceptError(
+				"Error occurred during initialization of VM\r\nCould not reserve enough space for object heap");
+		assertTrue(classifier.errorContains(Signature.COULD_NOT_RESOLVE_CONFIGURATION));
+		assertTrue(classifier.errorContains(Signature.COULD_NOT_RESOLVE));
+		assertTrue(classifier.errorContains(Signature.RESERVE_SPACE_FAILED));
+		assertFalse(classifier.errorContains(Signature.COULD_NOT_GET));
+	}
+
+	@Test public void compilationErrorFilesAreExtracted() {
+		GradleErrorClassifier classifier = new GradleErrorClassifier();
+		classifier.acceptError("""
+				/workspace/build/sources/main/java/net/mod/Block.java:12: error: cannot find symbol
+				        missing();
+				        ^
+				/workspace/src/main/java/net/mod/Item.java:5: error: ';' expected
+				/workspace/build/sources/main/java/net/mod/Block.java:20: error: cannot find symbol
+				/workspace/src/main/java/net/mod/Warning.java:7: warning: [removal] deprecated
+				Note: see the compiler error output for details.
+				""");
+		classifier.acceptError(
+				"C:\\workspace\\build\\sources\\main\\java\\net\\mod\\Tool.java:3: error: class expected");
+
+		assertEquals(List.of(new File("/workspace/src/main/java/net/mod/Block.java"),
+						new File("/workspace/src/main/java/net/mod/Item.java"),
+						new File("C:\\workspace\\src\\main\\java\\net\\mod\\Tool.java")),
+				List.copyOf(classifier.getCompilationErrorFiles()));
+		assertTrue(classifier.errorContains(Signature.COMPILER_ERROR_OUTPUT_NOTE));
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * MCreator (https://mcreator.net/)
+ * Copyright (C) 2012-2020, Pylo
+ * Copyright (C) 2020-2024, Pylo, opensource contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.mcreator.unit.util;
+
+import net.mcreator.util.MultiStringMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiStringMatcherTest {
+
+	@Test public void findOverlappingMatches() {
+		List<String> strings = List.of("he", "she", "his", "hers");
+		MultiStringMatcher matcher = new MultiStringMatcher(strings);
+
+		String text = "ushers and his";
+		List<String> found = new ArrayList<>();
+		int state = matcher.initialState();
+		for (int i = 0; i < text.length(); i++) {
+			state = matcher.nextState(state, text.charAt(i));
+			int end = i + 1;
+			matcher.forEachMatch(state,
+					index -> found.add(strings.get(index) + "@" + (end - matcher.getLength(index))));
+		}
+
+		assertEquals(List.of("she@1", "he@2", "hers@2", "his@11"), found);
+	}
+
+	@Test public void rejectEmptyStrings() {
+		assertThrows(IllegalArgumentException.class, () -> new MultiStringMatcher(List.of("a", "")));
+	}
+
+}